@@ -0,0 +1,54 @@
+package com.ME.job_management_system;
+
+import com.ME.job_management_system.entity.Job;
+import com.ME.job_management_system.entity.JobType;
+import com.ME.job_management_system.entity.User;
+import com.ME.job_management_system.entity.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic test data shared by the JMH benchmarks, shaped like real job postings
+ * (descriptions of a few hundred characters, a handful of distinct creators).
+ */
+public final class BenchmarkFixtures {
+
+    private static final String[] COMPANIES = {"Acme", "Globex", "Initech", "Umbrella", "Stark Industries"};
+    private static final String[] LOCATIONS = {"Berlin", "Paris", "Remote", "New York", "Tunis"};
+    private static final String[] TITLES = {"Backend Engineer", "Data Analyst", "Product Manager", "QA Engineer"};
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user(long id) {
+        User user = new User("user" + id + "@example.com", "{noop}secret", "First" + id, "Last" + id, UserRole.EMPLOYER);
+        user.setId(id);
+        return user;
+    }
+
+    public static List<Job> jobs(int count) {
+        Random random = new Random(42);
+        List<User> creators = List.of(user(1), user(2), user(3), user(4));
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<Job> jobs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String title = TITLES[random.nextInt(TITLES.length)];
+            String company = COMPANIES[random.nextInt(COMPANIES.length)];
+            Job job = new Job(title,
+                    (title + " at " + company + ". ").repeat(8) + "Competitive salary and benefits.",
+                    company,
+                    LOCATIONS[random.nextInt(LOCATIONS.length)],
+                    30_000 + random.nextInt(120_000) * 1.0,
+                    JobType.values()[random.nextInt(JobType.values().length)],
+                    creators.get(random.nextInt(creators.size())));
+            job.setId((long) i + 1);
+            job.setCreatedAt(base.plusMinutes(i));
+            job.setUpdatedAt(base.plusMinutes(i).plusSeconds(random.nextInt(3600)));
+            jobs.add(job);
+        }
+        return jobs;
+    }
+}
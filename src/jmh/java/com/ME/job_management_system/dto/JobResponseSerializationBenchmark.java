@@ -0,0 +1,63 @@
+package com.ME.job_management_system.dto;
+
+import com.ME.job_management_system.BenchmarkFixtures;
+import com.ME.job_management_system.entity.Job;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of job lists as the controllers return them: a page wrapped in
+ * {@link CursorPage}, with the ObjectMapper configured like Spring Boot's (ISO dates).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobResponseSerializationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int jobCount;
+
+    private ObjectWriter writer;
+    private CursorPage<JobResponse> page;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        List<JobResponse> items = BenchmarkFixtures.jobs(jobCount).stream()
+                .map(JobResponseSerializationBenchmark::toResponse)
+                .toList();
+        page = new CursorPage<>(items, items.size(), "eyJjIjoiMjAyNS0wMS0wMVQwOTowMCIsImkiOjF9", true);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return writer.writeValueAsBytes(page);
+    }
+
+    private static JobResponse toResponse(Job job) {
+        return new JobResponse(job.getId(), job.getTitle(), job.getDescription(), job.getCompany(),
+                job.getLocation(), job.getSalary(), job.getJobType(), job.getCreatedBy().getEmail(),
+                job.getCreatedAt(), job.getUpdatedAt());
+    }
+}
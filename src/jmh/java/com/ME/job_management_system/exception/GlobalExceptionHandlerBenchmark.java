@@ -0,0 +1,99 @@
+package com.ME.job_management_system.exception;
+
+import com.ME.job_management_system.dto.JobCreateRequest;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error responses from throw to JSON body: building the exception (including its stack
+ * trace, at the depth of a controller call), the handler method and serializing the map.
+ * The catch-all handler is left out as it prints every stack trace to stderr.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    // Roughly the number of frames between the servlet container and a service method
+    private static final int CALL_DEPTH = 120;
+
+    private GlobalExceptionHandler handler;
+    private ObjectWriter writer;
+    private MethodParameter parameter;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        parameter = new MethodParameter(
+                GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("createJob", JobCreateRequest.class), 0);
+    }
+
+    @Benchmark
+    public byte[] resourceNotFound() throws Exception {
+        try {
+            throwAtDepth(CALL_DEPTH, () -> new ResourceNotFoundException("Job", "id", 42L));
+            throw new IllegalStateException("unreachable");
+        } catch (ResourceNotFoundException e) {
+            return writer.writeValueAsBytes(handler.handleResourceNotFound(e).getBody());
+        }
+    }
+
+    @Benchmark
+    public byte[] badRequest() throws Exception {
+        try {
+            throwAtDepth(CALL_DEPTH, () -> new BadRequestException("Invalid cursor"));
+            throw new IllegalStateException("unreachable");
+        } catch (BadRequestException e) {
+            return writer.writeValueAsBytes(handler.handleBadRequest(e).getBody());
+        }
+    }
+
+    @Benchmark
+    public byte[] validationFailed() throws Exception {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new JobCreateRequest(), "jobCreateRequest");
+        bindingResult.addError(new FieldError("jobCreateRequest", "title", "Job title is required"));
+        bindingResult.addError(new FieldError("jobCreateRequest", "company", "Company name is required"));
+        bindingResult.addError(new FieldError("jobCreateRequest", "salary", "Salary must be positive"));
+        MethodArgumentNotValidException exception = new MethodArgumentNotValidException(parameter, bindingResult);
+        return writer.writeValueAsBytes(handler.handleValidationExceptions(exception).getBody());
+    }
+
+    private static void throwAtDepth(int depth, ExceptionFactory factory) {
+        if (depth == 0) {
+            throw factory.create();
+        }
+        throwAtDepth(depth - 1, factory);
+    }
+
+    @SuppressWarnings("unused")
+    private void createJob(JobCreateRequest request) {
+    }
+
+    private interface ExceptionFactory {
+        RuntimeException create();
+    }
+}
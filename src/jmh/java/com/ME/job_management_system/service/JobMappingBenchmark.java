@@ -0,0 +1,54 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.BenchmarkFixtures;
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.entity.Job;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping ({@link JobService#convertToResponse}) for a single job, a page
+ * and a large result. The service's collaborators are not touched by the mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobMappingBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int jobCount;
+
+    private JobService jobService;
+    private List<Job> jobs;
+
+    @Setup
+    public void setUp() {
+        jobService = new JobService(null, null, null);
+        jobs = BenchmarkFixtures.jobs(jobCount);
+    }
+
+    @Benchmark
+    public List<JobResponse> convertToResponse() {
+        List<JobResponse> responses = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            responses.add(jobService.convertToResponse(job));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,75 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.BenchmarkFixtures;
+import com.ME.job_management_system.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation and verification. verifyCached is the steady state of the JWT filter
+ * (claims cache hit); verifyUncached is the first request with a token, with the claims
+ * cache cleared before every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private Cache<?, ?> verifiedClaims;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtService, "claimsCacheMaxSize", 10_000L);
+        jwtService.init();
+        verifiedClaims = (Cache<?, ?>) ReflectionTestUtils.getField(jwtService, "verifiedClaims");
+        user = BenchmarkFixtures.user(1);
+        token = jwtService.generateToken(user);
+    }
+
+    @State(Scope.Thread)
+    public static class EmptyClaimsCache {
+        @Setup(Level.Invocation)
+        public void clear(JwtServiceBenchmark benchmark) {
+            benchmark.verifiedClaims.invalidateAll();
+        }
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean verifyCached() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public boolean verifyUncached(EmptyClaimsCache emptyCache) {
+        return jwtService.isTokenValid(token, user);
+    }
+}
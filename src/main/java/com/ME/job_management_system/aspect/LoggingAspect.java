@@ -1,32 +0,0 @@
-package com.ME.job_management_system.aspect;
-
-import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.annotation.Around;
-import org.aspectj.lang.annotation.Aspect;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
-
-@Aspect
-@Component
-public class LoggingAspect {
-
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
-
-    @Around("execution(* com.ME.job_management_system.service.*.*(..))")
-    public Object logServiceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-
-        logger.info("Entering {}.{}() with arguments: {}", className, methodName, joinPoint.getArgs());
-
-        try {
-            Object result = joinPoint.proceed();
-            logger.info("Exiting {}.{}() with result: {}", className, methodName, result);
-            return result;
-        } catch (Exception e) {
-            logger.error("Exception in {}.{}(): {}", className, methodName, e.getMessage());
-            throw e;
-        }
-    }
-}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.ME.job_management_system.aspect;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records latency histograms ("service.method.duration") and error counts
+ * ("service.method.errors") for every service method. Meters are resolved once per
+ * join point, so the per-call cost is two nanoTime reads and a map lookup.
+ * Argument logging is off by default; when enabled it is sampled, DEBUG only and
+ * never calls toString() on anything but simple values.
+ */
+@Aspect
+@Component
+public class ServiceInstrumentationAspect {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<JoinPoint.StaticPart, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    @Value("${instrumentation.service.percentile-histogram:true}")
+    private boolean percentileHistogram;
+
+    @Value("${instrumentation.service.log-sample-rate:0.0}")
+    private double logSampleRate;
+
+    @Value("${instrumentation.service.log-max-length:200}")
+    private int logMaxLength;
+
+    public ServiceInstrumentationAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.ME.job_management_system.service.*.*(..))")
+    public Object instrumentServiceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodMeters methodMeters = meters.computeIfAbsent(joinPoint.getStaticPart(), this::createMeters);
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            failure = t;
+            methodMeters.errors(t.getClass()).increment();
+            throw t;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            methodMeters.timer.record(elapsed, TimeUnit.NANOSECONDS);
+            if (logSampleRate > 0 && logger.isDebugEnabled()
+                    && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+                logger.debug("{}.{}({}) took {} us{}", methodMeters.className, methodMeters.methodName,
+                        describeArguments(joinPoint.getArgs()), elapsed / 1000,
+                        failure == null ? "" : " and failed with " + failure.getClass().getSimpleName());
+            }
+        }
+    }
+
+    private MethodMeters createMeters(JoinPoint.StaticPart staticPart) {
+        String className = staticPart.getSignature().getDeclaringType().getSimpleName();
+        String methodName = staticPart.getSignature().getName();
+        Timer timer = Timer.builder("service.method.duration")
+                .description("Latency of service layer methods")
+                .tag("class", className)
+                .tag("method", methodName)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(meterRegistry);
+        return new MethodMeters(className, methodName, timer);
+    }
+
+    // Simple values are printed (size-capped); everything else only by type, so no lazy collections are touched
+    private String describeArguments(Object[] args) {
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                description.append(", ");
+            }
+            Object arg = args[i];
+            if (arg == null || arg instanceof Number || arg instanceof Boolean || arg instanceof Enum<?>) {
+                description.append(arg);
+            } else if (arg instanceof CharSequence text) {
+                description.append('"').append(text, 0, Math.min(text.length(), logMaxLength)).append('"');
+            } else {
+                description.append(arg.getClass().getSimpleName());
+            }
+        }
+        return description.length() > logMaxLength
+                ? description.substring(0, logMaxLength) + "..."
+                : description.toString();
+    }
+
+    private final class MethodMeters {
+        private final String className;
+        private final String methodName;
+        private final Timer timer;
+        private final ConcurrentMap<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+
+        private MethodMeters(String className, String methodName, Timer timer) {
+            this.className = className;
+            this.methodName = methodName;
+            this.timer = timer;
+        }
+
+        private Counter errors(Class<?> exceptionType) {
+            return errors.computeIfAbsent(exceptionType, type -> Counter.builder("service.method.errors")
+                    .description("Exceptions thrown by service layer methods")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("exception", type.getSimpleName())
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.ME.job_management_system.config;
+
+import com.ME.job_management_system.entity.User;
+import com.ME.job_management_system.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Bounded, TTL-based cache of authenticated principals in front of the users table.
+ * Used by JwtAuthenticationFilter so authenticated requests do not each issue a
+ * users SELECT. Entries are evicted as soon as a role change or deletion commits;
+ * hit/miss metrics are published as the "principals" cache.
+ */
+public class CachingUserDetailsService implements UserDetailsService {
+
+    private final UserDetailsService delegate;
+    private final Cache<String, User> principals;
+
+    public CachingUserDetailsService(UserDetailsService delegate, long maxSize, Duration ttl,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) {
+        // UsernameNotFoundException propagates and nothing is cached
+        return principals.get(username, email -> snapshot(delegate.loadUserByUsername(email)));
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        principals.invalidate(event.getEmail());
+    }
+
+    // Detached copy without the lazy jobs collection, safe to share between requests
+    private static User snapshot(UserDetails loaded) {
+        User user = (User) loaded;
+        User copy = new User(user.getEmail(), user.getPassword(), user.getFirstName(), user.getLastName(), user.getRole());
+        copy.setId(user.getId());
+        copy.setCreatedAt(user.getCreatedAt());
+        copy.setUpdatedAt(user.getUpdatedAt());
+        return copy;
+    }
+}
@@ -0,0 +1,110 @@
+package com.ME.job_management_system.config;
+
+import com.ME.job_management_system.entity.User;
+import com.ME.job_management_system.util.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Admission control for the API, placed right after JwtAuthenticationFilter. Requests are
+ * grouped by path and each group has its own token bucket per caller: the user id when the
+ * request is authenticated, the client IP otherwise. Over-limit requests get 429 with a
+ * Retry-After header before they reach a controller or the connection pool.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public enum Group {
+        AUTH,   // /api/auth/** - login and registration, keyed by IP
+        SEARCH, // /api/jobs/search/** and /api/jobs/filter
+        API     // every other /api/** endpoint
+    }
+
+    private final Map<Group, RateLimiter> limiters;
+    private final Map<Group, Counter> rejections = new EnumMap<>(Group.class);
+
+    public RateLimitFilter(Map<Group, RateLimiter> limiters, MeterRegistry meterRegistry) {
+        this.limiters = new EnumMap<>(limiters);
+        for (Group group : Group.values()) {
+            rejections.put(group, Counter.builder("http.server.requests.rate.limited")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("group", group.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        Group group = groupOf(request);
+        RateLimiter limiter = group == null ? null : limiters.get(group);
+        if (limiter != null) {
+            Duration retryAfter = limiter.tryAcquire(callerKey(request));
+            if (!retryAfter.isZero()) {
+                rejections.get(group).increment();
+                reject(response, retryAfter);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // Classify on the decoded path: /api/jobs/%73earch must land in SEARCH, as it does in the dispatcher
+    static Group groupOf(HttpServletRequest request) {
+        return groupOf(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+    }
+
+    static Group groupOf(String path) {
+        if (path.startsWith("/api/auth/")) {
+            return Group.AUTH;
+        }
+        if (path.startsWith("/api/jobs/search") || path.startsWith("/api/jobs/filter")) {
+            return Group.SEARCH;
+        }
+        if (path.startsWith("/api/")) {
+            return Group.API;
+        }
+        return null; // health, docs and actuator are not limited
+    }
+
+    private static String callerKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user && user.getId() != null) {
+            return "user:" + user.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    // Same body shape as GlobalExceptionHandler; Retry-After in whole seconds, rounded up
+    private static void reject(HttpServletResponse response, Duration retryAfter) throws IOException {
+        long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"timestamp\":\"" + LocalDateTime.now() + "\",\"status\":429,"
+                + "\"error\":\"Too Many Requests\",\"message\":\"Rate limit exceeded, retry in " + seconds + "s\"}");
+    }
+}
@@ -0,0 +1,126 @@
+package com.ME.job_management_system.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Startup check that every declared repository query has an index to run on.
+ * Each entry names the query and the leading columns it filters or orders by; an index
+ * covers it when its first columns are exactly those. Indexes are read from the JDBC
+ * metadata, so the check works on any database. Missing indexes are logged, not fatal.
+ */
+@Component
+@ConditionalOnProperty(name = "schema.index-check.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexCheck {
+
+    record RequiredIndex(String query, String table, List<String> columns) {
+    }
+
+    static final List<RequiredIndex> REQUIRED_INDEXES = List.of(
+            new RequiredIndex("JobRepository.findPage (newest/oldest first)", "jobs", List.of("created_at", "id")),
+            new RequiredIndex("JobRepository.findPage (company) / countByCompany", "jobs", List.of("company", "created_at", "id")),
+            new RequiredIndex("JobRepository.findPage (jobType)", "jobs", List.of("job_type", "created_at", "id")),
+            new RequiredIndex("JobRepository.findPage (createdById) / findResponsesByCreatedById", "jobs", List.of("created_by", "created_at", "id")),
+            new RequiredIndex("JobRepository.findPage (salary order and range, /search/salary)", "jobs", List.of("salary", "id")),
+            new RequiredIndex("JobRepository.streamUpdatedSinceForExport", "jobs", List.of("updated_at")),
+            new RequiredIndex("UserRepository.findByEmail / existsByEmail", "users", List.of("email")),
+            new RequiredIndex("UserRepository.findByRole / countByRole", "users", List.of("role")),
+            new RequiredIndex("JobOutboxRepository.findDispatchable", "job_outbox", List.of("parked", "sequence_number")),
+            new RequiredIndex("JobOutboxRepository.findDispatchable (earlier changes of the job)", "job_outbox", List.of("job_id", "sequence_number"))
+    );
+
+    // Expression indexes have no plain column list in the metadata, so they are checked by name
+    static final Map<String, String> REQUIRED_POSTGRES_INDEXES = Map.of(
+            "idx_jobs_company_trgm", "JobRepository.findCompanyTrigramMatches",
+            "idx_jobs_location_trgm", "JobRepository.findLocationTrigramMatches"
+    );
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final DataSource dataSource;
+
+    public SchemaIndexCheck(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkOnStartup() {
+        try {
+            List<String> missing = findMissingIndexes();
+            if (missing.isEmpty()) {
+                logger.info("Schema index check passed: all {} repository query patterns are indexed",
+                        REQUIRED_INDEXES.size());
+            } else {
+                missing.forEach(problem -> logger.warn("Missing index: {}", problem));
+            }
+        } catch (SQLException e) {
+            logger.warn("Schema index check skipped, could not read index metadata: {}", e.getMessage());
+        }
+    }
+
+    // One message per query without a supporting index
+    public List<String> findMissingIndexes() throws SQLException {
+        List<String> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Map<String, Map<String, List<String>>> indexesByTable = new TreeMap<>();
+            for (RequiredIndex required : REQUIRED_INDEXES) {
+                if (!indexesByTable.containsKey(required.table())) {
+                    indexesByTable.put(required.table(), readIndexes(connection, required.table()));
+                }
+                Map<String, List<String>> indexes = indexesByTable.get(required.table());
+                boolean covered = indexes.values().stream().anyMatch(columns ->
+                        columns.size() >= required.columns().size()
+                                && columns.subList(0, required.columns().size()).equals(required.columns()));
+                if (!covered) {
+                    missing.add(required.query() + " needs an index on " + required.table() + required.columns());
+                }
+            }
+            if ("PostgreSQL".equalsIgnoreCase(metaData.getDatabaseProductName())) {
+                Map<String, List<String>> jobIndexes = indexesByTable.get("jobs");
+                REQUIRED_POSTGRES_INDEXES.forEach((name, query) -> {
+                    if (!jobIndexes.containsKey(name)) {
+                        missing.add(query + " needs the pg_trgm index " + name);
+                    }
+                });
+            }
+        }
+        return missing;
+    }
+
+    // Index name -> lower-case column names in index order
+    private static Map<String, List<String>> readIndexes(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String name = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Map<String, TreeMap<Short, String>> columnsByIndex = new TreeMap<>();
+        try (ResultSet rows = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), name, false, true)) {
+            while (rows.next()) {
+                String indexName = rows.getString("INDEX_NAME");
+                String column = rows.getString("COLUMN_NAME");
+                if (indexName == null) {
+                    continue;
+                }
+                columnsByIndex.computeIfAbsent(indexName.toLowerCase(Locale.ROOT), key -> new TreeMap<>())
+                        .put(rows.getShort("ORDINAL_POSITION"), column == null ? "" : column.toLowerCase(Locale.ROOT));
+            }
+        }
+        Map<String, List<String>> indexes = new TreeMap<>();
+        columnsByIndex.forEach((index, columns) -> indexes.put(index, List.copyOf(columns.values())));
+        return indexes;
+    }
+}
@@ -2,6 +2,9 @@ package com.ME.job_management_system.config;
 
 import com.ME.job_management_system.repository.UserRepository;
 import com.ME.job_management_system.service.JwtService;
+import com.ME.job_management_system.util.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,6 +22,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity  // Add this annotation
@@ -27,13 +34,56 @@ public class SecurityConfiguration {
     private final UserRepository userRepository;
     private final JwtService jwtService;
 
+    @Value("${security.principal-cache.max-size:10000}")
+    private long principalCacheMaxSize;
+
+    @Value("${security.principal-cache.ttl:5m}")
+    private Duration principalCacheTtl;
+
+    // 0 means one thread per available processor
+    @Value("${security.password-hashing.threads:0}")
+    private int passwordHashingThreads;
+
+    @Value("${security.password-hashing.queue-capacity:64}")
+    private int passwordHashingQueueCapacity;
+
+    @Value("${security.password-hashing.retry-after:1s}")
+    private Duration passwordHashingRetryAfter;
+
+    @Value("${security.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${security.rate-limit.max-keys:100000}")
+    private long rateLimitMaxKeys;
+
+    @Value("${security.rate-limit.auth.capacity:10}")
+    private int authCapacity;
+
+    @Value("${security.rate-limit.auth.refill-per-second:1}")
+    private double authRefillPerSecond;
+
+    @Value("${security.rate-limit.search.capacity:30}")
+    private int searchCapacity;
+
+    @Value("${security.rate-limit.search.refill-per-second:10}")
+    private double searchRefillPerSecond;
+
+    @Value("${security.rate-limit.api.capacity:100}")
+    private int apiCapacity;
+
+    @Value("${security.rate-limit.api.refill-per-second:50}")
+    private double apiRefillPerSecond;
+
     public SecurityConfiguration(UserRepository userRepository, JwtService jwtService) {
         this.userRepository = userRepository;
         this.jwtService = jwtService;
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   JwtAuthenticationFilter jwtAuthenticationFilter,
+                                                   AuthenticationProvider authenticationProvider,
+                                                   MeterRegistry meterRegistry) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
@@ -58,29 +108,49 @@ public class SecurityConfiguration {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
-                .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+                .authenticationProvider(authenticationProvider)
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        if (rateLimitEnabled) {
+            // After JWT authentication so authenticated callers are limited per user, not per IP
+            http.addFilterAfter(rateLimitFilter(meterRegistry), JwtAuthenticationFilter.class);
+        }
 
         return http.build();
     }
 
+    // Not a bean: Boot would also register it as a servlet filter, ahead of authentication
+    private RateLimitFilter rateLimitFilter(MeterRegistry meterRegistry) {
+        Map<RateLimitFilter.Group, RateLimiter> limiters = new EnumMap<>(RateLimitFilter.Group.class);
+        limiters.put(RateLimitFilter.Group.AUTH, new RateLimiter(authCapacity, authRefillPerSecond, rateLimitMaxKeys));
+        limiters.put(RateLimitFilter.Group.SEARCH, new RateLimiter(searchCapacity, searchRefillPerSecond, rateLimitMaxKeys));
+        limiters.put(RateLimitFilter.Group.API, new RateLimiter(apiCapacity, apiRefillPerSecond, rateLimitMaxKeys));
+        return new RateLimitFilter(limiters, meterRegistry);
+    }
+
     // Create JwtAuthenticationFilter as a bean
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtService, userDetailsService());
+    public JwtAuthenticationFilter jwtAuthenticationFilter(CachingUserDetailsService userDetailsService) {
+        return new JwtAuthenticationFilter(jwtService, userDetailsService);
     }
 
+    // Principal cache used on every authenticated request
     @Bean
-    public UserDetailsService userDetailsService() {
+    public CachingUserDetailsService userDetailsService(MeterRegistry meterRegistry) {
+        return new CachingUserDetailsService(databaseUserDetailsService(), principalCacheMaxSize,
+                principalCacheTtl, meterRegistry);
+    }
+
+    // Login always checks credentials against the database, never the cache
+    private UserDetailsService databaseUserDetailsService() {
         return username -> userRepository.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
-        authProvider.setUserDetailsService(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsService(databaseUserDetailsService());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -89,8 +159,11 @@ public class SecurityConfiguration {
         return config.getAuthenticationManager();
     }
 
+    // BCrypt runs on a bounded pool sized to the cores, never on the request thread
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int threads = passwordHashingThreads > 0 ? passwordHashingThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads, passwordHashingQueueCapacity,
+                passwordHashingRetryAfter, meterRegistry);
     }
 }
\ No newline at end of file
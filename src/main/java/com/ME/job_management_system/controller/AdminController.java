@@ -1,10 +1,15 @@
 package com.ME.job_management_system.controller;
 
+import com.ME.job_management_system.dto.BulkJobSelection;
+import com.ME.job_management_system.dto.BulkJobUpdateRequest;
+import com.ME.job_management_system.dto.BulkOperationStatus;
 import com.ME.job_management_system.dto.UpdateRoleRequest;
 import com.ME.job_management_system.dto.UserResponse;
 import com.ME.job_management_system.entity.User;
 import com.ME.job_management_system.entity.UserRole;
 import com.ME.job_management_system.service.AdminService;
+import com.ME.job_management_system.service.JobBulkOperationService;
+import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,9 +24,11 @@ import java.util.stream.Collectors;
 public class AdminController {
 
     private final AdminService adminService;
+    private final JobBulkOperationService jobBulkOperationService;
 
-    public AdminController(AdminService adminService) {
+    public AdminController(AdminService adminService, JobBulkOperationService jobBulkOperationService) {
         this.adminService = adminService;
+        this.jobBulkOperationService = jobBulkOperationService;
     }
 
     // Convert User entity to UserResponse DTO
@@ -75,11 +82,30 @@ public class AdminController {
 
     @GetMapping("/statistics/users")
     public Map<String, Object> getUserStatistics() {
+        Map<UserRole, Long> countsPerRole = adminService.getUsersCountPerRole();
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalUsers", adminService.getUsersCount());
-        stats.put("adminUsers", adminService.getUsersCountByRole(UserRole.ADMIN));
-        stats.put("employerUsers", adminService.getUsersCountByRole(UserRole.EMPLOYER));
-        stats.put("regularUsers", adminService.getUsersCountByRole(UserRole.USER));
+        stats.put("totalUsers", countsPerRole.values().stream().mapToLong(Long::longValue).sum());
+        stats.put("adminUsers", countsPerRole.get(UserRole.ADMIN));
+        stats.put("employerUsers", countsPerRole.get(UserRole.EMPLOYER));
+        stats.put("regularUsers", countsPerRole.get(UserRole.USER));
         return stats;
     }
-}
\ No newline at end of file
+
+    // Bulk job operations run in the background; poll the returned operation for progress
+    @PostMapping("/jobs/bulk-delete")
+    public ResponseEntity<BulkOperationStatus> bulkDeleteJobs(@RequestBody BulkJobSelection selection) {
+        return ResponseEntity.accepted().body(jobBulkOperationService.startDelete(selection));
+    }
+
+    @PostMapping("/jobs/bulk-update")
+    public ResponseEntity<BulkOperationStatus> bulkUpdateJobs(@Valid @RequestBody BulkJobUpdateRequest request) {
+        return ResponseEntity.accepted().body(jobBulkOperationService.startUpdate(request));
+    }
+
+    @Operation(summary = "Get bulk operation", description = "Progress of a bulk operation. Status is kept in memory on the "
+            + "instance that started the operation for a day, so poll that instance; other instances and restarts answer 404")
+    @GetMapping("/jobs/bulk-operations/{operationId}")
+    public BulkOperationStatus getBulkOperation(@PathVariable String operationId) {
+        return jobBulkOperationService.getStatus(operationId);
+    }
+}
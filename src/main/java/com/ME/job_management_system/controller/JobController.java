@@ -1,21 +1,51 @@
 package com.ME.job_management_system.controller;
 
+import com.ME.job_management_system.dto.BulkCreateResponse;
+import com.ME.job_management_system.dto.CursorPage;
 import com.ME.job_management_system.dto.JobCreateRequest;
+import com.ME.job_management_system.dto.JobFilterRequest;
 import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.dto.JobSearchHit;
 import com.ME.job_management_system.dto.JobUpdateRequest;
+import com.ME.job_management_system.dto.SalaryDistribution;
 import com.ME.job_management_system.entity.JobType;
+import com.ME.job_management_system.repository.JobSort;
+import com.ME.job_management_system.service.JobExportService;
+import com.ME.job_management_system.service.JobResponseCache;
+import com.ME.job_management_system.service.JobSalaryStatisticsService;
+import com.ME.job_management_system.service.JobSearchService;
 import com.ME.job_management_system.service.JobService;
+import com.ME.job_management_system.service.JobStatisticsService;
+import com.ME.job_management_system.service.JobStreamService;
+import com.ME.job_management_system.service.JobVersionService;
+import com.ME.job_management_system.util.SecurityUtil;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
@@ -25,23 +55,130 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @SecurityRequirement(name = "bearerAuth")
 public class JobController {
 
+    private static final String DEFAULT_PAGE_SIZE = "" + JobService.DEFAULT_PAGE_SIZE;
+    // Clients may keep responses but must revalidate them with their ETag
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final JobService jobService;
+    private final JobStatisticsService jobStatisticsService;
+    private final JobSearchService jobSearchService;
+    private final JobExportService jobExportService;
+    private final JobVersionService jobVersionService;
+    private final JobResponseCache jobResponseCache;
+    private final JobStreamService jobStreamService;
+    private final JobSalaryStatisticsService jobSalaryStatisticsService;
 
-    public JobController(JobService jobService) {
+    public JobController(JobService jobService, JobStatisticsService jobStatisticsService,
+                         JobSearchService jobSearchService, JobExportService jobExportService,
+                         JobVersionService jobVersionService, JobResponseCache jobResponseCache,
+                         JobStreamService jobStreamService, JobSalaryStatisticsService jobSalaryStatisticsService) {
         this.jobService = jobService;
+        this.jobStatisticsService = jobStatisticsService;
+        this.jobSearchService = jobSearchService;
+        this.jobExportService = jobExportService;
+        this.jobVersionService = jobVersionService;
+        this.jobResponseCache = jobResponseCache;
+        this.jobStreamService = jobStreamService;
+        this.jobSalaryStatisticsService = jobSalaryStatisticsService;
+    }
+
+    // Conditional GET for collections. The catalog ETag is taken before the query runs, so a write
+    // committing in between can only cause one extra full response, never a stale 304.
+    // The key includes the caller because /my-jobs depends on who asks.
+    private <T> ResponseEntity<T> conditional(WebRequest request, Supplier<T> body) {
+        StringBuilder key = new StringBuilder(request.getDescription(false))
+                .append('|').append(SecurityUtil.getCurrentUserId());
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) ->
+                key.append('|').append(name).append('=').append(String.join(",", values)));
+        String eTag = jobVersionService.catalogETag(key.toString());
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(body.get());
+    }
+
+    // Accept-Encoding is a list of codings with optional q-values; "gzip;q=0" and "*;q=0" opt out (RFC 9110 12.5.3)
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = qValue(parts);
+            } else if (coding.equals("*")) {
+                wildcard = qValue(parts);
+            }
+        }
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    // A malformed q-value counts as 0, so the identity body is sent
+    private static double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 1 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
     }
 
-    @Operation(summary = "Get all jobs", description = "Retrieve a list of all available jobs")
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Operation(summary = "Get all jobs", description = "Retrieve a page of jobs, newest first. Pass nextCursor from the previous page to continue")
     @GetMapping
-    public List<JobResponse> getAllJobs() {
-        return jobService.getAllJobs();
+    public ResponseEntity<CursorPage<JobResponse>> getAllJobs(@RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+                                                              WebRequest request) {
+        return conditional(request, () -> jobService.getAllJobs(cursor, size));
     }
 
     @Operation(summary = "Get job by ID", description = "Retrieve a specific job by its ID")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = JobResponse.class)))
     @GetMapping("/{id}")
-    public ResponseEntity<JobResponse> getJobById(@PathVariable Long id) {
-        JobResponse job = jobService.getJobById(id);
-        return ResponseEntity.ok(job);
+    public ResponseEntity<byte[]> getJobById(@PathVariable Long id, WebRequest request) {
+        // A matching If-None-Match on a job whose version is known is answered without a query,
+        // and a known version that was encoded before is answered without a query or serialization
+        LocalDateTime knownUpdatedAt = jobVersionService.getKnownUpdatedAt(id);
+        JobResponseCache.EncodedJob encoded = null;
+        if (knownUpdatedAt != null) {
+            String eTag = jobVersionService.jobETag(id, knownUpdatedAt);
+            if (request.checkNotModified(eTag, toEpochMillis(knownUpdatedAt))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE).build();
+            }
+            encoded = jobResponseCache.get(id, knownUpdatedAt);
+        }
+        if (encoded == null) {
+            JobResponse job = jobService.getJobById(id);
+            jobVersionService.recordRead(job);
+            encoded = jobResponseCache.put(job);
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(jobVersionService.jobETag(id, encoded.updatedAt()))
+                .cacheControl(REVALIDATE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (encoded.updatedAt() != null) {
+            response.lastModified(toEpochMillis(encoded.updatedAt()));
+        }
+        if (encoded.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+        }
+        return response.body(encoded.json());
     }
 
     @Operation(summary = "Create Job", description = "Create Job")
@@ -52,6 +189,15 @@ public class JobController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdJob);
     }
 
+    @Operation(summary = "Bulk create jobs", description = "Create up to 5000 jobs in one request; each item is validated separately and gets its own outcome")
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('EMPLOYER') or hasRole('ADMIN')")
+    public ResponseEntity<BulkCreateResponse> createJobs(@RequestBody List<JobCreateRequest> jobRequests) {
+        BulkCreateResponse response = jobService.createJobs(jobRequests);
+        HttpStatus status = response.getInvalid() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
     @Operation(summary = "Update Job", description = "Update Job")
     @PutMapping("/{id}")
     public ResponseEntity<JobResponse> updateJob(@PathVariable Long id, @Valid @RequestBody JobUpdateRequest jobRequest) {
@@ -67,58 +213,146 @@ public class JobController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "Stream job changes", description = "Server-Sent Events of created, updated and deleted jobs, optionally filtered by company or job type")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJobs(@RequestParam(required = false) String company,
+                                 @RequestParam(required = false) JobType jobType) {
+        return jobStreamService.subscribe(company, jobType);
+    }
+
     // New endpoint: Get current user's jobs
     @Operation(summary = "Get my jobs", description = "Retrieve a list of all available jobs created by current user")
     @GetMapping("/my-jobs")
-    public List<JobResponse> getMyJobs() {
-        return jobService.getMyJobs();
+    public ResponseEntity<CursorPage<JobResponse>> getMyJobs(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+                                                             WebRequest request) {
+        return conditional(request, () -> jobService.getMyJobs(cursor, size));
+    }
+
+    @Operation(summary = "Filter jobs", description = "Combine optional company, location, jobType, salary range and created-at range filters in one paginated query")
+    @GetMapping("/filter")
+    public ResponseEntity<CursorPage<JobResponse>> filterJobs(@ParameterObject JobFilterRequest filter,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+                                                              WebRequest request) {
+        return conditional(request, () -> jobService.filterJobs(filter, cursor, size));
+    }
+
+    @Operation(summary = "Export jobs", description = "Stream the whole job catalog as NDJSON or CSV, optionally only jobs updated since the given time")
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportJobs(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        JobExportService.Format exportFormat = JobExportService.Format.parse(format);
+        StreamingResponseBody body = out -> jobExportService.exportJobs(exportFormat, since, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"jobs." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    @Operation(summary = "Search jobs", description = "Full-text search over title, company and description, best matches first")
+    @GetMapping("/search")
+    public ResponseEntity<List<JobSearchHit>> searchJobs(@RequestParam String q,
+                                                         @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+                                                         WebRequest request) {
+        return conditional(request, () -> jobSearchService.search(q, limit));
+    }
+
+    @Operation(summary = "Fuzzy search by company", description = "Substring and typo-tolerant company lookup ranked by trigram similarity")
+    @GetMapping("/search/company/fuzzy")
+    public ResponseEntity<List<JobSearchHit>> fuzzySearchByCompany(@RequestParam String q,
+                                                                   @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+                                                                   WebRequest request) {
+        return conditional(request, () -> jobSearchService.fuzzySearch(JobSearchService.FuzzyField.COMPANY, q, limit));
+    }
+
+    @Operation(summary = "Fuzzy search by location", description = "Substring and typo-tolerant location lookup ranked by trigram similarity")
+    @GetMapping("/search/location/fuzzy")
+    public ResponseEntity<List<JobSearchHit>> fuzzySearchByLocation(@RequestParam String q,
+                                                                    @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+                                                                    WebRequest request) {
+        return conditional(request, () -> jobSearchService.fuzzySearch(JobSearchService.FuzzyField.LOCATION, q, limit));
     }
 
     @Operation (summary = "Get jobs count By Company", description = "Retrieve total number of jobs")
     @GetMapping("/search/company")
-    public List<JobResponse> getJobsByCompany(@RequestParam String company) {
-        return jobService.getJobsByCompany(company);
+    public ResponseEntity<CursorPage<JobResponse>> getJobsByCompany(@RequestParam String company,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+                                                                    WebRequest request) {
+        return conditional(request, () -> jobService.getJobsByCompany(company, cursor, size));
     }
 
     @Operation (summary = "Get jobs count By Location", description = "Retrieve total number of jobs")
     @GetMapping("/search/location")
-    public List<JobResponse> getJobsByLocation(@RequestParam String location) {
-        return jobService.getJobsByLocation(location);
+    public ResponseEntity<CursorPage<JobResponse>> getJobsByLocation(@RequestParam String location,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+                                                                     WebRequest request) {
+        return conditional(request, () -> jobService.getJobsByLocation(location, cursor, size));
     }
 
     @Operation (summary = "Get jobs count By Title", description = "Retrieve total number of jobs")
     @GetMapping("/search/title")
-    public List<JobResponse> getJobsByTitle(@RequestParam String title) {
-        return jobService.getJobsByTitle(title);
+    public ResponseEntity<CursorPage<JobResponse>> getJobsByTitle(@RequestParam String title,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+                                                                  WebRequest request) {
+        return conditional(request, () -> jobService.getJobsByTitle(title, cursor, size));
     }
 
     @Operation (summary = "Get jobs count By Job Type", description = "Retrieve total number of jobs")
     @GetMapping("/search/job-type")
-    public List<JobResponse> getJobsByJobType(@RequestParam JobType jobType) {
-        return jobService.getJobsByJobType(jobType);
+    public ResponseEntity<CursorPage<JobResponse>> getJobsByJobType(@RequestParam JobType jobType,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+                                                                    WebRequest request) {
+        return conditional(request, () -> jobService.getJobsByJobType(jobType, cursor, size));
     }
 
-    @Operation (summary = "Get jobs JobsStatistics", description = "Get jobs JobsStatistics")
+    @Operation(summary = "Search jobs by salary range", description = "Jobs with minSalary <= salary <= maxSalary in salary order; jobs without a salary are excluded")
+    @GetMapping("/search/salary")
+    public ResponseEntity<CursorPage<JobResponse>> getJobsBySalaryRange(@RequestParam(required = false) Double minSalary,
+                                                                        @RequestParam(required = false) Double maxSalary,
+                                                                        @RequestParam(defaultValue = "SALARY_LOW") JobSort sort,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+                                                                        WebRequest request) {
+        return conditional(request, () -> jobService.getJobsBySalaryRange(minSalary, maxSalary, sort, cursor, size));
+    }
+
+    @Operation (summary = "Get jobs JobsStatistics", description = "Job counts from per-instance in-memory counters, reseeded from the database every statistics.reseed-interval")
     @GetMapping("/statistics/count")
     public Map<String, Object> getJobsStatistics() {
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalJobs", jobService.getTotalJobsCount());
-        stats.put("fullTimeJobs", jobService.getJobsCountByJobType(JobType.FULL_TIME));
-        stats.put("partTimeJobs", jobService.getJobsCountByJobType(JobType.PART_TIME));
-        stats.put("contractJobs", jobService.getJobsCountByJobType(JobType.CONTRACT));
-        stats.put("internshipJobs", jobService.getJobsCountByJobType(JobType.INTERNSHIP));
-        stats.put("remoteJobs", jobService.getJobsCountByJobType(JobType.REMOTE));
-        stats.put("myJobs", jobService.getMyJobsCount());
+        // Served from in-memory counters, no database round trip
+        stats.put("totalJobs", jobStatisticsService.getTotalJobsCount());
+        stats.put("fullTimeJobs", jobStatisticsService.getJobsCountByJobType(JobType.FULL_TIME));
+        stats.put("partTimeJobs", jobStatisticsService.getJobsCountByJobType(JobType.PART_TIME));
+        stats.put("contractJobs", jobStatisticsService.getJobsCountByJobType(JobType.CONTRACT));
+        stats.put("internshipJobs", jobStatisticsService.getJobsCountByJobType(JobType.INTERNSHIP));
+        stats.put("remoteJobs", jobStatisticsService.getJobsCountByJobType(JobType.REMOTE));
+        stats.put("myJobs", jobStatisticsService.getJobsCountByCreator(SecurityUtil.getCurrentUserId()));
         return stats;
     }
 
+    @Operation(summary = "Get salary distribution", description = "Salary percentiles and histogram buckets, overall or for one jobType or company")
+    @GetMapping("/statistics/salary")
+    public SalaryDistribution getSalaryDistribution(@RequestParam(required = false) JobType jobType,
+                                                    @RequestParam(required = false) String company) {
+        // Served from in-memory histograms, no database round trip
+        return jobSalaryStatisticsService.getDistribution(jobType, company);
+    }
+
     @Operation (summary = "Get Company Statistics", description = "Get Company Statistics")
     @GetMapping("/statistics/company/{company}")
     public Map<String, Object> getCompanyStatistics(@PathVariable String company) {
         Map<String, Object> stats = new HashMap<>();
         stats.put("company", company);
         stats.put("totalJobs", jobService.getJobsCountByCompany(company));
-        stats.put("jobs", jobService.getJobsByCompany(company));
+        stats.put("jobs", jobService.getJobsByCompany(company, null, JobService.DEFAULT_PAGE_SIZE));
         return stats;
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.ME.job_management_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateResponse {
+    private int requested;
+    private int created;
+    private int invalid;
+    private List<BulkJobResult> results; // one per request item, in request order
+}
@@ -0,0 +1,23 @@
+package com.ME.job_management_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobResult {
+
+    public enum Status {
+        CREATED,
+        INVALID
+    }
+
+    private int index; // position in the request list
+    private Status status;
+    private Long id; // null unless CREATED
+    private List<String> errors; // empty unless INVALID
+}
@@ -0,0 +1,15 @@
+package com.ME.job_management_system.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Either an explicit id list or at least one filter; filters are combined with AND
+@Data
+public class BulkJobSelection {
+    private List<Long> ids;
+    private String company;
+    private Long createdById;
+    private LocalDateTime createdBefore; // exclusive
+}
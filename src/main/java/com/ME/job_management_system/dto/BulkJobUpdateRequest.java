@@ -0,0 +1,17 @@
+package com.ME.job_management_system.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class BulkJobUpdateRequest {
+
+    @NotNull(message = "Selection is required")
+    private BulkJobSelection selection;
+
+    // Only the non-null fields are applied to every selected job
+    @NotNull(message = "Changes are required")
+    @Valid
+    private JobUpdateRequest changes;
+}
@@ -0,0 +1,35 @@
+package com.ME.job_management_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationStatus {
+
+    public enum Type {
+        DELETE,
+        UPDATE
+    }
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private String id;
+    private Type type;
+    private State state;
+    private long total; // rows matching when the operation started
+    private long processed; // rows deleted or updated so far
+    private long notFound; // selected rows that no longer existed when their chunk ran
+    private int chunksCompleted;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
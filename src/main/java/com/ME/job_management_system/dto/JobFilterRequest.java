@@ -0,0 +1,26 @@
+package com.ME.job_management_system.dto;
+
+import com.ME.job_management_system.entity.JobType;
+import com.ME.job_management_system.repository.JobSort;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+// Query parameters of GET /api/jobs/filter - every criterion is optional
+@Data
+public class JobFilterRequest {
+    private String company;
+    private String location; // substring, case-insensitive
+    private JobType jobType;
+    private Double minSalary;
+    private Double maxSalary;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    private JobSort sort = JobSort.NEWEST;
+}
@@ -1,11 +1,15 @@
 package com.ME.job_management_system.dto;
 
 import com.ME.job_management_system.entity.JobType;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor // Used by the JPQL constructor projections in JobRepository
 public class JobResponse {
     private Long id;
     private String title;
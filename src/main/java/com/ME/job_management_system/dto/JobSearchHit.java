@@ -0,0 +1,13 @@
+package com.ME.job_management_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchHit {
+    private JobResponse job;
+    private double score; // relevance, higher is better
+}
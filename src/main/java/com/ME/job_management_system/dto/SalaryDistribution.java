@@ -0,0 +1,23 @@
+package com.ME.job_management_system.dto;
+
+import com.ME.job_management_system.entity.JobType;
+import com.ME.job_management_system.util.SalaryHistogram;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+// Response of GET /api/jobs/statistics/salary - jobType and company are null for the overall distribution
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryDistribution {
+    private JobType jobType;
+    private String company;
+    private long count; // jobs with a salary
+    private double bucketWidth;
+    private Map<String, Double> percentiles; // p10, p25, p50, p75, p90; empty when count is 0
+    private List<SalaryHistogram.Bucket> buckets;
+}
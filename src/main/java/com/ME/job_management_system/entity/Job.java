@@ -5,17 +5,31 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "jobs")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "jobs")
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_created_at_id", columnList = "created_at, id"),
+        // Composite indexes for the common filter combinations, each ending in the keyset order
+        @Index(name = "idx_jobs_company_created_at", columnList = "company, created_at, id"),
+        @Index(name = "idx_jobs_job_type_created_at", columnList = "job_type, created_at, id"),
+        @Index(name = "idx_jobs_created_by_created_at", columnList = "created_by, created_at, id"),
+        @Index(name = "idx_jobs_salary_id", columnList = "salary, id"),
+        @Index(name = "idx_jobs_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 public class Job {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence (one round trip per 50 ids) so Hibernate can batch inserts; IDENTITY disables batching
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_id_seq")
+    @SequenceGenerator(name = "jobs_id_seq", sequenceName = "jobs_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Job title is required")
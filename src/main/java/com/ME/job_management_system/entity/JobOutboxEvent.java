@@ -0,0 +1,63 @@
+package com.ME.job_management_system.entity;
+
+import com.ME.job_management_system.event.JobChangedEvent;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One undelivered job change in the transactional outbox. Rows are deleted once every
+ * JobEventSink has handled them; a row whose delivery keeps failing is retried with backoff
+ * and finally parked, where it stays for inspection without holding up other changes.
+ */
+@Entity
+@Table(name = "job_outbox")
+@Data
+@NoArgsConstructor
+public class JobOutboxEvent {
+
+    @Id
+    // Pooled like Job.id, so outbox INSERTs are batched with the job writes of a bulk create
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_outbox_id_seq")
+    @SequenceGenerator(name = "job_outbox_id_seq", sequenceName = "job_outbox_id_seq", allocationSize = 50)
+    private Long id;
+
+    // Delivery order, assigned by the database at insert (not at commit). Changes of one job
+    // are numbered in order only because the job row lock serializes their transactions.
+    @Column(name = "sequence_number", insertable = false, updatable = false)
+    private Long sequenceNumber;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "created_by")
+    private Long createdById;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private JobChangedEvent.Type type;
+
+    // JSON of the previous and current JobResponse
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Failed deliveries so far
+    @Column(nullable = false)
+    private int attempts;
+
+    // Not retried before this time; null until the first failure
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    // Gave up after jobs.outbox.max-attempts failures; no longer delivered or blocking its job
+    @Column(nullable = false)
+    private boolean parked;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+}
@@ -0,0 +1,37 @@
+package com.ME.job_management_system.event;
+
+import com.ME.job_management_system.dto.JobResponse;
+import lombok.Value;
+
+/**
+ * Published by JobService inside the writing transaction whenever a job is created,
+ * updated or deleted. In-memory read models listen with
+ * {@code @TransactionalEventListener} so they only see committed changes.
+ */
+@Value
+public class JobChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    Type type;
+    Long jobId;
+    Long createdById;
+    JobResponse previous; // null for CREATED
+    JobResponse current;  // null for DELETED
+
+    public static JobChangedEvent created(Long createdById, JobResponse current) {
+        return new JobChangedEvent(Type.CREATED, current.getId(), createdById, null, current);
+    }
+
+    public static JobChangedEvent updated(Long createdById, JobResponse previous, JobResponse current) {
+        return new JobChangedEvent(Type.UPDATED, current.getId(), createdById, previous, current);
+    }
+
+    public static JobChangedEvent deleted(Long createdById, JobResponse previous) {
+        return new JobChangedEvent(Type.DELETED, previous.getId(), createdById, previous, null);
+    }
+}
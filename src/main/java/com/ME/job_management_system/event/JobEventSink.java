@@ -0,0 +1,13 @@
+package com.ME.job_management_system.event;
+
+/**
+ * In-process consumer of committed job changes, fed from the transactional outbox by
+ * JobOutboxService. Every JobEventSink bean receives each change at least once, in order
+ * per job id, on the dispatcher thread. A change can be redelivered after a failure or
+ * restart, so implementations should be idempotent, e.g. by remembering the last sequence.
+ */
+public interface JobEventSink {
+
+    // sequence is the outbox row's sequence number: increasing per job, and the same on redelivery
+    void handle(long sequence, JobChangedEvent event) throws Exception;
+}
@@ -0,0 +1,13 @@
+package com.ME.job_management_system.event;
+
+import lombok.Value;
+
+/**
+ * Published by AdminService when a user's role changes or the user is deleted,
+ * so anything caching that user can drop it once the transaction commits.
+ */
+@Value
+public class UserChangedEvent {
+    Long userId;
+    String email;
+}
@@ -0,0 +1,8 @@
+package com.ME.job_management_system.exception;
+
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.ME.job_management_system.repository;
+
+import com.ME.job_management_system.entity.JobType;
+
+// Row of JobRepository.countGroupedByJobTypeAndCreator
+public interface JobCountRow {
+    JobType getJobType();
+    Long getCreatedById();
+    long getTotal();
+}
@@ -0,0 +1,78 @@
+package com.ME.job_management_system.repository;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.exception.BadRequestException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a keyset ordering: the sort key of the last row seen (createdAt or salary,
+ * depending on the JobSort) plus its id as tie-breaker.
+ * Clients only ever see the opaque token produced by {@link #encode()}.
+ */
+@Getter
+public class JobCursor {
+
+    private static final String SEPARATOR = "_";
+    private static final String CREATED_AT_PREFIX = "t";
+    private static final String SALARY_PREFIX = "s";
+
+    private final LocalDateTime createdAt; // set for NEWEST / OLDEST
+    private final Double salary;           // set for SALARY_HIGH / SALARY_LOW
+    private final Long id;
+
+    public JobCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.salary = null;
+        this.id = id;
+    }
+
+    public JobCursor(Double salary, Long id) {
+        this.createdAt = null;
+        this.salary = salary;
+        this.id = id;
+    }
+
+    public static JobCursor after(JobResponse last, JobSort sort) {
+        return sort.isBySalary()
+                ? new JobCursor(last.getSalary(), last.getId())
+                : new JobCursor(last.getCreatedAt(), last.getId());
+    }
+
+    public boolean matches(JobSort sort) {
+        return sort.isBySalary() ? salary != null : createdAt != null;
+    }
+
+    public String encode() {
+        String raw = salary != null
+                ? SALARY_PREFIX + salary + SEPARATOR + id
+                : CREATED_AT_PREFIX + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns null for a missing token, i.e. the first page
+    public static JobCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            String key = raw.substring(1, separator);
+            Long id = Long.parseLong(raw.substring(separator + 1));
+            if (raw.startsWith(SALARY_PREFIX)) {
+                return new JobCursor(Double.parseDouble(key), id);
+            }
+            if (raw.startsWith(CREATED_AT_PREFIX)) {
+                return new JobCursor(LocalDateTime.parse(key), id);
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            // fall through
+        }
+        throw new BadRequestException("Invalid cursor");
+    }
+}
@@ -0,0 +1,28 @@
+package com.ME.job_management_system.repository;
+
+import com.ME.job_management_system.entity.JobOutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JobOutboxRepository extends JpaRepository<JobOutboxEvent, Long> {
+
+    // Oldest first, locked so a dispatcher on another instance waits instead of delivering the same rows.
+    // Skips parked rows, rows waiting out their retry backoff, and every later row of a job that has one
+    // waiting, so a job's changes are never delivered past an earlier one that failed.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from JobOutboxEvent e where e.parked = false " +
+            "and (e.nextAttemptAt is null or e.nextAttemptAt <= :now) " +
+            "and not exists (select w.id from JobOutboxEvent w where w.jobId = e.jobId and w.parked = false " +
+            "and w.sequenceNumber < e.sequenceNumber and w.nextAttemptAt > :now) " +
+            "order by e.sequenceNumber")
+    List<JobOutboxEvent> findDispatchable(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -1,27 +1,101 @@
 package com.ME.job_management_system.repository;
 
+import com.ME.job_management_system.dto.JobResponse;
 import com.ME.job_management_system.entity.Job;
 import com.ME.job_management_system.entity.JobType;
-import com.ME.job_management_system.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JobRepositoryCustom {
 
-    List<Job> findByCompany(String company);
-    List<Job> findByLocationContainingIgnoreCase(String location);
-    List<Job> findByTitleContainingIgnoreCase(String keyword);
-    List<Job> findByJobType(JobType jobType);
+    // Listing and search queries are keyset-paginated, see JobRepositoryCustom.findPage
 
-    // User-specific queries
-    List<Job> findByCreatedBy(User user);
-    long countByCreatedBy(User user);
+    @Query("select new com.ME.job_management_system.dto.JobResponse(" +
+            "j.id, j.title, j.description, j.company, j.location, j.salary, j.jobType, u.email, j.createdAt, j.updatedAt) " +
+            "from Job j join j.createdBy u where u.id = :userId")
+    List<JobResponse> findResponsesByCreatedById(@Param("userId") Long userId);
+
+    @Query("select new com.ME.job_management_system.dto.JobResponse(" +
+            "j.id, j.title, j.description, j.company, j.location, j.salary, j.jobType, u.email, j.createdAt, j.updatedAt) " +
+            "from Job j left join j.createdBy u where j.id in :ids")
+    List<JobResponse> findResponsesByIds(@Param("ids") Collection<Long> ids);
+
+    // Set-based statements for admin bulk operations; callers pass one chunk of ids per transaction
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Job j where j.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // Null arguments leave the column unchanged; updatedAt is set explicitly because @PreUpdate does not run for bulk updates
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Job j set j.title = coalesce(:title, j.title), j.description = coalesce(:description, j.description), " +
+            "j.company = coalesce(:company, j.company), j.location = coalesce(:location, j.location), " +
+            "j.salary = coalesce(:salary, j.salary), j.jobType = coalesce(:jobType, j.jobType), " +
+            "j.updatedAt = :updatedAt where j.id in :ids")
+    int updateByIds(@Param("ids") Collection<Long> ids,
+                    @Param("title") String title,
+                    @Param("description") String description,
+                    @Param("company") String company,
+                    @Param("location") String location,
+                    @Param("salary") Double salary,
+                    @Param("jobType") JobType jobType,
+                    @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Export streams: server-side cursor with a fixed fetch size, rows projected so nothing piles up in the persistence context
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.ME.job_management_system.dto.JobResponse(" +
+            "j.id, j.title, j.description, j.company, j.location, j.salary, j.jobType, u.email, j.createdAt, j.updatedAt) " +
+            "from Job j left join j.createdBy u order by j.id")
+    Stream<JobResponse> streamAllForExport();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.ME.job_management_system.dto.JobResponse(" +
+            "j.id, j.title, j.description, j.company, j.location, j.salary, j.jobType, u.email, j.createdAt, j.updatedAt) " +
+            "from Job j left join j.createdBy u where j.updatedAt >= :since order by j.id")
+    Stream<JobResponse> streamUpdatedSinceForExport(@Param("since") LocalDateTime since);
+
+    // pg_trgm substring/similarity lookups, served by the GIN trigram indexes on lower(company) and lower(location).
+    // PostgreSQL only - other databases use the in-memory TrigramIndex in JobSearchService.
+    // % is the indexable pre-filter at pg_trgm.similarity_threshold (0.3 unless set on the database);
+    // the explicit similarity() check then applies search.trigram.similarity-threshold on top of it.
+    // pattern is the lower-cased query with \, % and _ escaped, so user input only ever matches literally.
+    @Query(value = "select j.id as id, similarity(lower(j.company), lower(:q)) as score from jobs j " +
+            "where (lower(j.company) % lower(:q) and similarity(lower(j.company), lower(:q)) >= :threshold) " +
+            "or lower(j.company) like '%' || :pattern || '%' escape '\\' " +
+            "order by score desc, j.id desc limit :limit", nativeQuery = true)
+    List<ScoredJobId> findCompanyTrigramMatches(@Param("q") String q, @Param("pattern") String pattern,
+                                                @Param("threshold") double threshold, @Param("limit") int limit);
+
+    @Query(value = "select j.id as id, similarity(lower(j.location), lower(:q)) as score from jobs j " +
+            "where (lower(j.location) % lower(:q) and similarity(lower(j.location), lower(:q)) >= :threshold) " +
+            "or lower(j.location) like '%' || :pattern || '%' escape '\\' " +
+            "order by score desc, j.id desc limit :limit", nativeQuery = true)
+    List<ScoredJobId> findLocationTrigramMatches(@Param("q") String q, @Param("pattern") String pattern,
+                                                 @Param("threshold") double threshold, @Param("limit") int limit);
 
     // Count methods for statistics
     long count();
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     long countByCompany(String company);
-    long countByJobType(JobType jobType);
+
+    // Seeds JobStatisticsService in a single pass over the table
+    @Query("select j.jobType as jobType, j.createdBy.id as createdById, count(j) as total " +
+            "from Job j group by j.jobType, j.createdBy.id")
+    List<JobCountRow> countGroupedByJobTypeAndCreator();
+
+    // Seeds JobSalaryStatisticsService; one row per distinct salary, not per job
+    @Query("select j.company as company, j.jobType as jobType, j.salary as salary, count(j) as total " +
+            "from Job j where j.salary is not null group by j.company, j.jobType, j.salary")
+    List<SalaryCountRow> countGroupedBySalary();
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.ME.job_management_system.repository;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.entity.Job;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface JobRepositoryCustom {
+
+    // Keyset page in criteria.sort order (newest first by default); pass a null cursor for the first page.
+    // Rows are projected straight into JobResponse with the creator joined in the same statement.
+    List<JobResponse> findPage(JobSearchCriteria criteria, JobCursor after, int limit);
+
+    // Persists new jobs, flushing and clearing the persistence context every batchSize rows so the
+    // inserts go out as JDBC batches and the context never holds more than one batch.
+    void persistAll(List<Job> jobs, int batchSize);
+
+    // Ids matching the criteria filters in ascending id order, strictly after afterId (null for the first chunk)
+    List<Long> findIdsAfter(JobSearchCriteria criteria, Long afterId, int limit);
+
+    long countMatching(JobSearchCriteria criteria);
+
+    // Projections plus creator id, in one statement; used to publish events for set-based changes
+    List<JobSnapshot> findSnapshotsByIds(Collection<Long> ids);
+}
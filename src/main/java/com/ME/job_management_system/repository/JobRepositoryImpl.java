@@ -0,0 +1,206 @@
+package com.ME.job_management_system.repository;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.entity.Job;
+import com.ME.job_management_system.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+public class JobRepositoryImpl implements JobRepositoryCustom {
+
+    // One API page plus the look-ahead row
+    private static final int MAX_CACHEABLE_ROWS = 101;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void persistAll(List<Job> jobs, int batchSize) {
+        for (int i = 0; i < jobs.size(); i++) {
+            entityManager.persist(jobs.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    public List<JobResponse> findPage(JobSearchCriteria criteria, JobCursor after, int limit) {
+        JobSort sort = criteria.getSort() != null ? criteria.getSort() : JobSort.NEWEST;
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobResponse> query = cb.createQuery(JobResponse.class);
+        Root<Job> job = query.from(Job.class);
+        Join<Job, User> creator = job.join("createdBy", JoinType.LEFT);
+        Path<LocalDateTime> createdAt = job.get("createdAt");
+        Path<Double> salary = job.get("salary");
+        Path<Long> id = job.get("id");
+
+        List<Predicate> predicates = buildPredicates(cb, job, criteria);
+        Order[] orderBy;
+        if (sort.isBySalary()) {
+            predicates.add(cb.isNotNull(salary));
+            if (after != null) {
+                predicates.add(keysetPredicate(cb, salary, after.getSalary(), id, after.getId(), sort.isDescending()));
+            }
+            orderBy = orderBy(cb, salary, id, sort.isDescending());
+        } else {
+            if (after != null) {
+                predicates.add(keysetPredicate(cb, createdAt, after.getCreatedAt(), id, after.getId(), sort.isDescending()));
+            }
+            orderBy = orderBy(cb, createdAt, id, sort.isDescending());
+        }
+
+        query.select(cb.construct(JobResponse.class,
+                        id,
+                        job.get("title"),
+                        job.get("description"),
+                        job.get("company"),
+                        job.get("location"),
+                        salary,
+                        job.get("jobType"),
+                        creator.get("email"),
+                        createdAt,
+                        job.get("updatedAt")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(orderBy);
+
+        // API-sized pages go through the query cache; large internal scans (index rebuilds) do not
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_CACHEABLE, limit <= MAX_CACHEABLE_ROWS)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> findIdsAfter(JobSearchCriteria criteria, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Job> job = query.from(Job.class);
+        Path<Long> id = job.get("id");
+
+        List<Predicate> predicates = buildPredicates(cb, job, criteria);
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(id, afterId));
+        }
+        query.select(id)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countMatching(JobSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Job> job = query.from(Job.class);
+        query.select(cb.count(job))
+                .where(buildPredicates(cb, job, criteria).toArray(new Predicate[0]));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public List<JobSnapshot> findSnapshotsByIds(Collection<Long> ids) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Job> job = query.from(Job.class);
+        Join<Job, User> creator = job.join("createdBy", JoinType.LEFT);
+
+        query.multiselect(
+                        creator.get("id"),
+                        cb.construct(JobResponse.class,
+                                job.get("id"),
+                                job.get("title"),
+                                job.get("description"),
+                                job.get("company"),
+                                job.get("location"),
+                                job.get("salary"),
+                                job.get("jobType"),
+                                creator.get("email"),
+                                job.get("createdAt"),
+                                job.get("updatedAt")))
+                .where(job.get("id").in(ids));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(row -> new JobSnapshot(row.get(0, Long.class), row.get(1, JobResponse.class)))
+                .toList();
+    }
+
+    // Rows strictly after (key, id) in the given direction
+    private <Y extends Comparable<? super Y>> Predicate keysetPredicate(CriteriaBuilder cb, Path<Y> key, Y lastKey,
+                                                                       Path<Long> id, Long lastId, boolean descending) {
+        if (descending) {
+            return cb.or(cb.lessThan(key, lastKey), cb.and(cb.equal(key, lastKey), cb.lessThan(id, lastId)));
+        }
+        return cb.or(cb.greaterThan(key, lastKey), cb.and(cb.equal(key, lastKey), cb.greaterThan(id, lastId)));
+    }
+
+    private Order[] orderBy(CriteriaBuilder cb, Path<?> key, Path<Long> id, boolean descending) {
+        return descending
+                ? new Order[]{cb.desc(key), cb.desc(id)}
+                : new Order[]{cb.asc(key), cb.asc(id)};
+    }
+
+    private List<Predicate> buildPredicates(CriteriaBuilder cb, Root<Job> job, JobSearchCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.getCompany() != null) {
+            predicates.add(cb.equal(job.get("company"), criteria.getCompany()));
+        }
+        if (criteria.getLocationContains() != null) {
+            predicates.add(containsIgnoreCase(cb, job.get("location"), criteria.getLocationContains()));
+        }
+        if (criteria.getTitleContains() != null) {
+            predicates.add(containsIgnoreCase(cb, job.get("title"), criteria.getTitleContains()));
+        }
+        if (criteria.getJobType() != null) {
+            predicates.add(cb.equal(job.get("jobType"), criteria.getJobType()));
+        }
+        if (criteria.getCreatedById() != null) {
+            predicates.add(cb.equal(job.get("createdBy").get("id"), criteria.getCreatedById()));
+        }
+        if (criteria.getMinSalary() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(job.get("salary"), criteria.getMinSalary()));
+        }
+        if (criteria.getMaxSalary() != null) {
+            predicates.add(cb.lessThanOrEqualTo(job.get("salary"), criteria.getMaxSalary()));
+        }
+        if (criteria.getCreatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(job.get("createdAt"), criteria.getCreatedFrom()));
+        }
+        if (criteria.getCreatedTo() != null) {
+            predicates.add(cb.lessThan(job.get("createdAt"), criteria.getCreatedTo()));
+        }
+        return predicates;
+    }
+
+    private Predicate containsIgnoreCase(CriteriaBuilder cb, Expression<String> field, String value) {
+        // lower() so PostgreSQL can serve it from the gin_trgm_ops indexes on lower(column)
+        String escaped = value.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return cb.like(cb.lower(field), "%" + escaped + "%", '\\');
+    }
+}
@@ -0,0 +1,21 @@
+package com.ME.job_management_system.repository;
+
+import com.ME.job_management_system.entity.JobType;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Optional filters for JobRepository.findPage - null fields are ignored
+@Data
+public class JobSearchCriteria {
+    private String company;
+    private String locationContains;
+    private String titleContains;
+    private JobType jobType;
+    private Long createdById;
+    private Double minSalary;
+    private Double maxSalary;
+    private LocalDateTime createdFrom; // inclusive
+    private LocalDateTime createdTo;   // exclusive
+    private JobSort sort = JobSort.NEWEST;
+}
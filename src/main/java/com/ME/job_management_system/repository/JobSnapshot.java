@@ -0,0 +1,7 @@
+package com.ME.job_management_system.repository;
+
+import com.ME.job_management_system.dto.JobResponse;
+
+// A job as seen by a bulk operation, with the creator id that JobChangedEvent needs
+public record JobSnapshot(Long createdById, JobResponse job) {
+}
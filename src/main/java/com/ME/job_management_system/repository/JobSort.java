@@ -0,0 +1,17 @@
+package com.ME.job_management_system.repository;
+
+// Orderings supported by keyset pagination; ties are always broken by id in the same direction
+public enum JobSort {
+    NEWEST,      // created_at DESC
+    OLDEST,      // created_at ASC
+    SALARY_HIGH, // salary DESC, jobs without a salary are excluded
+    SALARY_LOW;  // salary ASC, jobs without a salary are excluded
+
+    public boolean isBySalary() {
+        return this == SALARY_HIGH || this == SALARY_LOW;
+    }
+
+    public boolean isDescending() {
+        return this == NEWEST || this == SALARY_HIGH;
+    }
+}
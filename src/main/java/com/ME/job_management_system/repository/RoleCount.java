@@ -0,0 +1,9 @@
+package com.ME.job_management_system.repository;
+
+import com.ME.job_management_system.entity.UserRole;
+
+// Row of UserRepository.countGroupedByRole
+public interface RoleCount {
+    UserRole getRole();
+    long getTotal();
+}
@@ -0,0 +1,11 @@
+package com.ME.job_management_system.repository;
+
+import com.ME.job_management_system.entity.JobType;
+
+// Row of JobRepository.countGroupedBySalary
+public interface SalaryCountRow {
+    String getCompany();
+    JobType getJobType();
+    Double getSalary();
+    long getTotal();
+}
@@ -0,0 +1,7 @@
+package com.ME.job_management_system.repository;
+
+// Row of the pg_trgm similarity queries in JobRepository
+public interface ScoredJobId {
+    Long getId();
+    Double getScore();
+}
@@ -1,13 +1,23 @@
 package com.ME.job_management_system.repository;
 
 import com.ME.job_management_system.entity.User;
+import com.ME.job_management_system.entity.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // Role filters run in the database, backed by idx_users_role
+    List<User> findByRole(UserRole role);
+    long countByRole(UserRole role);
+
+    @Query("select u.role as role, count(u) as total from User u group by u.role")
+    List<RoleCount> countGroupedByRole();
 }
\ No newline at end of file
@@ -2,21 +2,31 @@ package com.ME.job_management_system.service;
 
 import com.ME.job_management_system.entity.User;
 import com.ME.job_management_system.entity.UserRole;
+import com.ME.job_management_system.event.UserChangedEvent;
+import com.ME.job_management_system.repository.RoleCount;
 import com.ME.job_management_system.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional
 public class AdminService {
 
     private final UserRepository userRepository;
+    private final JobService jobService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AdminService(UserRepository userRepository) {
+    public AdminService(UserRepository userRepository, JobService jobService,
+                        ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.jobService = jobService;
+        this.eventPublisher = eventPublisher;
     }
 
     // Only admins can access these methods
@@ -37,22 +47,23 @@ public class AdminService {
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
 
         user.setRole(newRole);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), savedUser.getEmail()));
+        return savedUser;
     }
 
     @PreAuthorize("hasRole('ADMIN')")
     public void deleteUser(Long userId) {
-        if (!userRepository.existsById(userId)) {
-            throw new RuntimeException("User not found with id: " + userId);
-        }
-        userRepository.deleteById(userId);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+        jobService.deleteAllJobsOf(userId);
+        userRepository.delete(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId, user.getEmail()));
     }
 
     @PreAuthorize("hasRole('ADMIN')")
     public List<User> getUsersByRole(UserRole role) {
-        return userRepository.findAll().stream()
-                .filter(user -> user.getRole() == role)
-                .toList();
+        return userRepository.findByRole(role);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -62,8 +73,19 @@ public class AdminService {
 
     @PreAuthorize("hasRole('ADMIN')")
     public long getUsersCountByRole(UserRole role) {
-        return userRepository.findAll().stream()
-                .filter(user -> user.getRole() == role)
-                .count();
+        return userRepository.countByRole(role);
+    }
+
+    // Counts for every role in one grouped query; roles without users map to 0
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<UserRole, Long> getUsersCountPerRole() {
+        Map<UserRole, Long> counts = new EnumMap<>(UserRole.class);
+        for (UserRole role : UserRole.values()) {
+            counts.put(role, 0L);
+        }
+        for (RoleCount row : userRepository.countGroupedByRole()) {
+            counts.put(row.getRole(), row.getTotal());
+        }
+        return counts;
     }
 }
\ No newline at end of file
@@ -5,15 +5,23 @@ import com.ME.job_management_system.dto.LoginRequest;
 import com.ME.job_management_system.dto.RegisterRequest;
 import com.ME.job_management_system.entity.User;
 import com.ME.job_management_system.entity.UserRole;
+import com.ME.job_management_system.exception.BadRequestException;
 import com.ME.job_management_system.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
+
 @Service
 public class AuthenticationService {
 
+    // Name given by the V1 migration; databases created by Hibernate before migrations have a generated one
+    private static final String EMAIL_CONSTRAINT = "uk_users_email";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
@@ -30,11 +38,6 @@ public class AuthenticationService {
     }
 
     public AuthResponse register(RegisterRequest request) {
-        // Check if user already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new RuntimeException("Email already registered");
-        }
-
         // Create new user
         var user = new User(
                 request.getEmail(),
@@ -44,8 +47,16 @@ public class AuthenticationService {
                 request.getRole() != null ? request.getRole() : UserRole.USER
         );
 
-        // Save user
-        var savedUser = userRepository.save(user);
+        // Save user; the unique email constraint rejects duplicates without a separate lookup
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e, request.getEmail())) {
+                throw new BadRequestException("Email already registered");
+            }
+            throw e;
+        }
 
         // Generate token
         var jwtToken = jwtService.generateToken(user);
@@ -60,17 +71,14 @@ public class AuthenticationService {
     }
 
     public AuthResponse login(LoginRequest request) {
-        // Authenticate user
-        authenticationManager.authenticate(
+        // Authenticate user; the authenticated principal is the user loaded from the database
+        var authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail(),
                         request.getPassword()
                 )
         );
-
-        // Get user from database
-        var user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow();
+        var user = (User) authentication.getPrincipal();
 
         // Generate token
         var jwtToken = jwtService.generateToken(user);
@@ -83,4 +91,14 @@ public class AuthenticationService {
                 user.getRole()
         );
     }
-}
\ No newline at end of file
+
+    // Only a violation of the unique email constraint means the email is taken; anything else is a real error
+    private boolean isDuplicateEmail(DataIntegrityViolationException e, String email) {
+        if (e.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(EMAIL_CONSTRAINT)) {
+            return true;
+        }
+        // Constraint name unknown or generated: the email is taken if a user with it exists now
+        return userRepository.existsByEmail(email);
+    }
+}
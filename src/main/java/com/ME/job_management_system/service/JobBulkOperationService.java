@@ -0,0 +1,245 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.BulkJobSelection;
+import com.ME.job_management_system.dto.BulkJobUpdateRequest;
+import com.ME.job_management_system.dto.BulkOperationStatus;
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.dto.JobUpdateRequest;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.ME.job_management_system.exception.BadRequestException;
+import com.ME.job_management_system.exception.ResourceNotFoundException;
+import com.ME.job_management_system.repository.JobRepository;
+import com.ME.job_management_system.repository.JobSearchCriteria;
+import com.ME.job_management_system.repository.JobSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Admin bulk delete/update of jobs. Work is split into chunks of ids, each handled by
+ * set-based statements in its own short transaction, on a background thread; callers
+ * poll {@link #getStatus(String)} for progress. Every affected row still produces a
+ * {@link JobChangedEvent}, published in the chunk's transaction.
+ */
+@Service
+public class JobBulkOperationService {
+
+    public static final int MAX_IDS = 100_000;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final JobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    // Finished operations stay visible for a day so callers can read the final status.
+    // Kept per instance and lost on restart: only the instance that started an operation knows it.
+    private final Cache<String, BulkOperation> operations = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(Duration.ofDays(1))
+            .build();
+
+    public JobBulkOperationService(JobRepository jobRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${admin.bulk.chunk-size:1000}") int chunkSize) {
+        this.jobRepository = jobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public BulkOperationStatus startDelete(BulkJobSelection selection) {
+        return start(BulkOperationStatus.Type.DELETE, selection, this::deleteChunk);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public BulkOperationStatus startUpdate(BulkJobUpdateRequest request) {
+        JobUpdateRequest changes = request.getChanges();
+        if (changes.getTitle() == null && changes.getDescription() == null && changes.getCompany() == null
+                && changes.getLocation() == null && changes.getSalary() == null && changes.getJobType() == null) {
+            throw new BadRequestException("At least one field to change is required");
+        }
+        return start(BulkOperationStatus.Type.UPDATE, request.getSelection(), ids -> updateChunk(ids, changes));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public BulkOperationStatus getStatus(String operationId) {
+        BulkOperation operation = operations.getIfPresent(operationId);
+        if (operation == null) {
+            throw new ResourceNotFoundException("Bulk operation", "id", operationId);
+        }
+        return operation.toStatus();
+    }
+
+    private BulkOperationStatus start(BulkOperationStatus.Type type, BulkJobSelection selection,
+                                      ToIntFunction<List<Long>> chunkAction) {
+        List<Long> ids = validatedIds(selection);
+        JobSearchCriteria criteria = ids == null ? toCriteria(selection) : null;
+        long total = ids != null ? ids.size() : jobRepository.countMatching(criteria);
+
+        BulkOperation operation = new BulkOperation(UUID.randomUUID().toString(), type, total);
+        operations.put(operation.id, operation);
+        taskExecutor.execute(() -> run(operation, ids, criteria, chunkAction));
+        return operation.toStatus();
+    }
+
+    // Sorted, de-duplicated ids, or null when the selection is filter based
+    private List<Long> validatedIds(BulkJobSelection selection) {
+        if (selection == null) {
+            throw new BadRequestException("Selection is required");
+        }
+        boolean hasIds = selection.getIds() != null && !selection.getIds().isEmpty();
+        boolean hasFilter = selection.getCompany() != null || selection.getCreatedById() != null
+                || selection.getCreatedBefore() != null;
+        if (hasIds == hasFilter) {
+            throw new BadRequestException("Select jobs either by ids or by at least one filter");
+        }
+        if (!hasIds) {
+            return null;
+        }
+        if (selection.getIds().size() > MAX_IDS) {
+            throw new BadRequestException("At most " + MAX_IDS + " ids can be given per operation");
+        }
+        return selection.getIds().stream().filter(Objects::nonNull).distinct().sorted().toList();
+    }
+
+    private JobSearchCriteria toCriteria(BulkJobSelection selection) {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setCompany(selection.getCompany());
+        criteria.setCreatedById(selection.getCreatedById());
+        criteria.setCreatedTo(selection.getCreatedBefore());
+        return criteria;
+    }
+
+    // Id lists are cut into fixed chunks; filters are walked by ascending id so rows changed
+    // by an earlier chunk (e.g. an updated company) are never picked up twice
+    private void run(BulkOperation operation, List<Long> ids, JobSearchCriteria criteria,
+                     ToIntFunction<List<Long>> chunkAction) {
+        try {
+            if (ids != null) {
+                for (int from = 0; from < ids.size(); from += chunkSize) {
+                    List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                    Integer affected = transactionTemplate.execute(status -> chunkAction.applyAsInt(chunk));
+                    operation.chunkDone(chunk.size(), affected);
+                }
+            } else {
+                Long afterId = null;
+                while (true) {
+                    Long after = afterId;
+                    ChunkResult chunk = transactionTemplate.execute(status -> {
+                        List<Long> next = jobRepository.findIdsAfter(criteria, after, chunkSize);
+                        return new ChunkResult(next, next.isEmpty() ? 0 : chunkAction.applyAsInt(next));
+                    });
+                    if (chunk == null || chunk.ids().isEmpty()) {
+                        break;
+                    }
+                    operation.chunkDone(chunk.ids().size(), chunk.affected());
+                    if (chunk.ids().size() < chunkSize) {
+                        break;
+                    }
+                    afterId = chunk.ids().get(chunk.ids().size() - 1);
+                }
+            }
+            operation.finish(null);
+            logger.info("Bulk {} {} finished: {} jobs in {} chunks", operation.type, operation.id,
+                    operation.processed, operation.chunksCompleted);
+        } catch (RuntimeException e) {
+            operation.finish(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            logger.error("Bulk {} {} failed after {} jobs", operation.type, operation.id, operation.processed, e);
+        }
+        operations.put(operation.id, operation);
+    }
+
+    private int deleteChunk(List<Long> ids) {
+        List<JobSnapshot> deleted = jobRepository.findSnapshotsByIds(ids);
+        int affected = jobRepository.deleteByIds(ids);
+        deleted.forEach(snapshot ->
+                eventPublisher.publishEvent(JobChangedEvent.deleted(snapshot.createdById(), snapshot.job())));
+        return affected;
+    }
+
+    private int updateChunk(List<Long> ids, JobUpdateRequest changes) {
+        List<JobSnapshot> previous = jobRepository.findSnapshotsByIds(ids);
+        int affected = jobRepository.updateByIds(ids, changes.getTitle(), changes.getDescription(),
+                changes.getCompany(), changes.getLocation(), changes.getSalary(), changes.getJobType(),
+                LocalDateTime.now());
+        Map<Long, JobResponse> current = jobRepository.findResponsesByIds(ids).stream()
+                .collect(Collectors.toMap(JobResponse::getId, Function.identity()));
+        for (JobSnapshot snapshot : previous) {
+            JobResponse updated = current.get(snapshot.job().getId());
+            // Deleted concurrently between the snapshot and the update: not updated, counted as not found
+            if (updated != null) {
+                eventPublisher.publishEvent(JobChangedEvent.updated(snapshot.createdById(), snapshot.job(), updated));
+            }
+        }
+        return affected;
+    }
+
+    private record ChunkResult(List<Long> ids, int affected) {
+    }
+
+    // Progress of one operation; written by the worker thread, read by status requests
+    private static final class BulkOperation {
+        private final String id;
+        private final BulkOperationStatus.Type type;
+        private final long total;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile BulkOperationStatus.State state = BulkOperationStatus.State.RUNNING;
+        private volatile long processed;
+        private volatile long notFound;
+        private volatile int chunksCompleted;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private BulkOperation(String id, BulkOperationStatus.Type type, long total) {
+            this.id = id;
+            this.type = type;
+            this.total = total;
+        }
+
+        // Only the worker thread writes, so plain read-modify-write is safe.
+        // Selected rows the chunk did not affect no longer existed when it ran.
+        private void chunkDone(int requested, Integer affected) {
+            int done = affected == null ? 0 : affected;
+            processed += done;
+            notFound += Math.max(0, requested - done);
+            chunksCompleted++;
+        }
+
+        private void finish(String failure) {
+            error = failure;
+            finishedAt = LocalDateTime.now();
+            state = failure == null ? BulkOperationStatus.State.COMPLETED : BulkOperationStatus.State.FAILED;
+        }
+
+        private BulkOperationStatus toStatus() {
+            return new BulkOperationStatus(id, type, state, total, processed, notFound, chunksCompleted,
+                    startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.exception.BadRequestException;
+import com.ME.job_management_system.repository.JobRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Streams the job catalog straight from a database cursor to an output stream,
+ * one row at a time, so heap use does not depend on the number of jobs.
+ */
+@Service
+public class JobExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format parse(String value) {
+            try {
+                return Format.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    private static final String CSV_HEADER =
+            "id,title,description,company,location,salary,jobType,createdBy,createdAt,updatedAt";
+
+    private final JobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+
+    public JobExportService(JobRepository jobRepository, ObjectMapper objectMapper) {
+        this.jobRepository = jobRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    // Read-only transaction keeps the cursor open while rows are written out
+    @Transactional(readOnly = true)
+    public void exportJobs(Format format, LocalDateTime since, OutputStream out) throws IOException {
+        try (Stream<JobResponse> jobs = since == null
+                ? jobRepository.streamAllForExport()
+                : jobRepository.streamUpdatedSinceForExport(since)) {
+            if (format == Format.CSV) {
+                writeCsv(jobs.iterator(), out);
+            } else {
+                writeNdjson(jobs.iterator(), out);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeNdjson(Iterator<JobResponse> jobs, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            if (!jobs.hasNext()) {
+                return; // an empty export is an empty body, not a blank line
+            }
+            while (jobs.hasNext()) {
+                generator.writeObject(jobs.next());
+            }
+            generator.writeRaw('\n');
+        }
+    }
+
+    private void writeCsv(Iterator<JobResponse> jobs, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (jobs.hasNext()) {
+            JobResponse job = jobs.next();
+            writer.write(String.valueOf(job.getId()));
+            writeCsvField(writer, job.getTitle());
+            writeCsvField(writer, job.getDescription());
+            writeCsvField(writer, job.getCompany());
+            writeCsvField(writer, job.getLocation());
+            writeCsvField(writer, job.getSalary());
+            writeCsvField(writer, job.getJobType());
+            writeCsvField(writer, job.getCreatedBy());
+            writeCsvField(writer, job.getCreatedAt());
+            writeCsvField(writer, job.getUpdatedAt());
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks
+    private void writeCsvField(Writer writer, Object value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(text);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.entity.JobOutboxEvent;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.ME.job_management_system.event.JobEventSink;
+import com.ME.job_management_system.repository.JobOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Transactional outbox for job changes. Every JobChangedEvent is written to the job_outbox
+ * table just before its transaction commits, so a change is recorded if and only if the job
+ * write is. A scheduled dispatcher drains the table in insert order, in batches, hands each
+ * change to every {@link JobEventSink} and deletes it afterwards (at-least-once). A change
+ * whose delivery fails is retried with exponential backoff, and later changes of the same job
+ * wait for it; other jobs keep flowing. After jobs.outbox.max-attempts failures the change is
+ * parked: it stays in the table with its last error and no longer holds its job back.
+ */
+@Service
+public class JobOutboxService {
+
+    private record Payload(JobResponse previous, JobResponse current) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final JobOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final List<JobEventSink> sinks;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final AtomicLong oldestPendingMillis = new AtomicLong();
+    private final Timer deliveryLag;
+    private final Counter deliveryFailures;
+    private final Counter parkedEvents;
+
+    public JobOutboxService(JobOutboxRepository outboxRepository,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            List<JobEventSink> sinks,
+                            MeterRegistry meterRegistry,
+                            @Value("${jobs.outbox.batch-size:100}") int batchSize,
+                            @Value("${jobs.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${jobs.outbox.retry-backoff:1s}") Duration retryBackoff,
+                            @Value("${jobs.outbox.max-retry-backoff:5m}") Duration maxRetryBackoff) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sinks = sinks;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        Gauge.builder("jobs.outbox.lag", oldestPendingMillis, millis -> millis.get() / 1000.0)
+                .description("Age in seconds of the oldest undelivered change, as of the last poll")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("jobs.outbox.delivery.lag")
+                .description("Time from commit to delivery to every sink")
+                .register(meterRegistry);
+        this.deliveryFailures = Counter.builder("jobs.outbox.delivery.failures")
+                .description("Failed deliveries of a change, each retried later or parked")
+                .register(meterRegistry);
+        this.parkedEvents = Counter.builder("jobs.outbox.parked")
+                .description("Changes parked after jobs.outbox.max-attempts failed deliveries")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onJobChanged(JobChangedEvent event) {
+        JobOutboxEvent outboxEvent = new JobOutboxEvent();
+        outboxEvent.setJobId(event.getJobId());
+        outboxEvent.setCreatedById(event.getCreatedById());
+        outboxEvent.setType(event.getType());
+        outboxEvent.setCreatedAt(LocalDateTime.now());
+        try {
+            outboxEvent.setPayload(objectMapper.writeValueAsString(new Payload(event.getPrevious(), event.getCurrent())));
+        } catch (JsonProcessingException e) {
+            // Failing here rolls the job write back rather than losing the change
+            throw new IllegalStateException("Could not encode the change of job " + event.getJobId(), e);
+        }
+        outboxRepository.save(outboxEvent);
+    }
+
+    // Drains full batches back to back; a short batch waits for the next poll
+    @Scheduled(fixedDelayString = "${jobs.outbox.poll-interval:500ms}")
+    public void dispatchPending() {
+        int handled;
+        do {
+            handled = dispatchBatch();
+        } while (handled == batchSize);
+    }
+
+    // Returns how many changes were taken from the outbox: delivered, rescheduled or parked
+    public int dispatchBatch() {
+        Integer handled = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<JobOutboxEvent> batch = outboxRepository.findDispatchable(now, PageRequest.of(0, batchSize));
+            oldestPendingMillis.set(batch.isEmpty()
+                    ? 0 : Duration.between(batch.get(0).getCreatedAt(), now).toMillis());
+            List<Long> deliveredIds = new ArrayList<>(batch.size());
+            // Jobs with a change that failed in this batch: their later changes wait for the retry
+            Set<Long> blockedJobs = new HashSet<>();
+            for (JobOutboxEvent outboxEvent : batch) {
+                if (blockedJobs.contains(outboxEvent.getJobId())) {
+                    continue;
+                }
+                try {
+                    JobChangedEvent event = toEvent(outboxEvent);
+                    for (JobEventSink sink : sinks) {
+                        sink.handle(outboxEvent.getSequenceNumber(), event);
+                    }
+                } catch (Exception e) {
+                    if (!recordFailure(outboxEvent, e, now)) {
+                        blockedJobs.add(outboxEvent.getJobId());
+                    }
+                    continue;
+                }
+                deliveredIds.add(outboxEvent.getId());
+                deliveryLag.record(Duration.between(outboxEvent.getCreatedAt(), LocalDateTime.now()));
+            }
+            if (!deliveredIds.isEmpty()) {
+                outboxRepository.deleteAllByIdInBatch(deliveredIds);
+            }
+            // Rescheduled and parked rows are managed entities, written back on commit
+            return batch.size();
+        });
+        return handled == null ? 0 : handled;
+    }
+
+    // Schedules the next attempt, doubling the backoff each time; returns true when the change was parked
+    private boolean recordFailure(JobOutboxEvent outboxEvent, Exception e, LocalDateTime now) {
+        deliveryFailures.increment();
+        int attempts = outboxEvent.getAttempts() + 1;
+        outboxEvent.setAttempts(attempts);
+        outboxEvent.setLastError(abbreviate(e.getClass().getSimpleName() + ": " + e.getMessage()));
+        if (attempts >= maxAttempts) {
+            outboxEvent.setParked(true);
+            outboxEvent.setNextAttemptAt(null);
+            parkedEvents.increment();
+            logger.error("Delivery of outbox event {} (job {}) failed {} times, parking it: {}",
+                    outboxEvent.getId(), outboxEvent.getJobId(), attempts, e.getMessage());
+            return true;
+        }
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        if (backoff.compareTo(maxRetryBackoff) > 0) {
+            backoff = maxRetryBackoff;
+        }
+        outboxEvent.setNextAttemptAt(now.plus(backoff));
+        logger.warn("Delivery of outbox event {} (job {}) failed, retrying in {}: {}",
+                outboxEvent.getId(), outboxEvent.getJobId(), backoff, e.getMessage());
+        return false;
+    }
+
+    private static String abbreviate(String error) {
+        return error.length() <= 1000 ? error : error.substring(0, 1000);
+    }
+
+    private JobChangedEvent toEvent(JobOutboxEvent outboxEvent) throws JsonProcessingException {
+        Payload payload = objectMapper.readValue(outboxEvent.getPayload(), Payload.class);
+        return new JobChangedEvent(outboxEvent.getType(), outboxEvent.getJobId(), outboxEvent.getCreatedById(),
+                payload.previous(), payload.current());
+    }
+}
@@ -0,0 +1,119 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Ready-encoded JSON of single jobs, served by GET /api/jobs/{id} without building a
+ * JobResponse or running Jackson. Each entry carries the updatedAt it was encoded from
+ * and is only served while that is still the version JobVersionService knows, so an
+ * entry racing a write is never returned. Larger bodies are also kept gzip-compressed.
+ * The cache is bounded by total bytes and uses Caffeine's frequency-aware eviction, so
+ * the most-viewed postings stay encoded; hit/miss metrics are published as "job.responses".
+ * Like the versions it is checked against, the cache only sees writes made on this instance,
+ * so entries expire after the same etag.job-versions.ttl; a job changed on another instance
+ * is served stale for at most that long.
+ */
+@Service
+public class JobResponseCache {
+
+    // gzip is null when the body was too small to be worth compressing
+    public record EncodedJob(LocalDateTime updatedAt, byte[] json, byte[] gzip) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jobs.response-cache.max-size:32MB}")
+    private DataSize maxSize;
+
+    @Value("${jobs.response-cache.gzip-min-size:1KB}")
+    private DataSize gzipMinSize;
+
+    @Value("${etag.job-versions.ttl:5s}")
+    private Duration ttl;
+
+    private Cache<Long, EncodedJob> responses;
+
+    public JobResponseCache(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        responses = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Long id, EncodedJob job) -> job.json().length + (job.gzip() == null ? 0 : job.gzip().length))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "job.responses");
+    }
+
+    // Cached encoding of the job at exactly this version, or null
+    public EncodedJob get(Long jobId, LocalDateTime updatedAt) {
+        EncodedJob cached = responses.getIfPresent(jobId);
+        if (cached == null || updatedAt == null || !cached.updatedAt().equals(updatedAt.truncatedTo(ChronoUnit.MICROS))) {
+            return null;
+        }
+        return cached;
+    }
+
+    // Encodes a job just read from the database and keeps it unless a newer version is already cached
+    public EncodedJob put(JobResponse job) {
+        EncodedJob encoded = encode(job);
+        if (encoded.updatedAt() != null) {
+            responses.asMap().merge(job.getId(), encoded, (known, candidate) ->
+                    known.updatedAt().isAfter(candidate.updatedAt()) ? known : candidate);
+        }
+        return encoded;
+    }
+
+    @TransactionalEventListener
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() != JobChangedEvent.Type.CREATED) {
+            responses.invalidate(event.getJobId());
+        }
+    }
+
+    EncodedJob encode(JobResponse job) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(job);
+            byte[] gzip = json.length >= gzipMinSize.toBytes() ? gzip(json) : null;
+            LocalDateTime updatedAt = job.getUpdatedAt() == null ? null : job.getUpdatedAt().truncatedTo(ChronoUnit.MICROS);
+            return new EncodedJob(updatedAt, json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode job " + job.getId(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,143 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.dto.SalaryDistribution;
+import com.ME.job_management_system.entity.JobType;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.ME.job_management_system.exception.BadRequestException;
+import com.ME.job_management_system.repository.JobRepository;
+import com.ME.job_management_system.repository.SalaryCountRow;
+import com.ME.job_management_system.util.SalaryHistogram;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Salary distribution of jobs, overall and per JobType or company, kept in memory as
+ * histograms. Seeded with one GROUP BY query at startup and then maintained from
+ * committed JobChangedEvents, so distribution requests never scan the jobs table.
+ * Like the job counts, the histograms are reseeded every statistics.reseed-interval to
+ * pick up writes committed on other instances. Companies are matched case-insensitively
+ * and only companies with at least one salaried job keep a histogram.
+ * Jobs without a salary are not counted.
+ */
+@Service
+@Lazy(false) // must be seeded before the first job write is committed
+public class JobSalaryStatisticsService {
+
+    // Job validates salaries up to this value
+    static final double MAX_SALARY = 1_000_000;
+    private static final double[] PERCENTILES = {10, 25, 50, 75, 90};
+
+    // One generation of histograms; a reseed swaps in a complete new one
+    private record Histograms(SalaryHistogram overall, Map<JobType, SalaryHistogram> byJobType,
+                              ConcurrentMap<String, SalaryHistogram> byCompany) {
+    }
+
+    private final JobRepository jobRepository;
+    private final double bucketWidth;
+    // Served for companies without salaried jobs
+    private final SalaryHistogram empty;
+    private volatile Histograms histograms;
+
+    public JobSalaryStatisticsService(JobRepository jobRepository,
+                                      @Value("${statistics.salary.bucket-width:5000}") double bucketWidth) {
+        this.jobRepository = jobRepository;
+        this.bucketWidth = bucketWidth;
+        this.empty = new SalaryHistogram(bucketWidth, 0);
+        this.histograms = newHistograms();
+    }
+
+    @PostConstruct
+    void loadHistograms() {
+        Histograms seeded = newHistograms();
+        for (SalaryCountRow row : jobRepository.countGroupedBySalary()) {
+            add(seeded, row.getCompany(), row.getJobType(), row.getSalary(), row.getTotal());
+        }
+        histograms = seeded;
+    }
+
+    // Picks up writes committed on other instances. An event applied while the query runs can be
+    // lost or counted twice; the next reseed corrects that too.
+    @Scheduled(initialDelayString = "${statistics.reseed-interval:5m}", fixedDelayString = "${statistics.reseed-interval:5m}")
+    public void reseed() {
+        loadHistograms();
+    }
+
+    @TransactionalEventListener
+    public void onJobChanged(JobChangedEvent event) {
+        Histograms target = histograms;
+        JobResponse previous = event.getPrevious();
+        JobResponse current = event.getCurrent();
+        if (previous != null) {
+            add(target, previous.getCompany(), previous.getJobType(), previous.getSalary(), -1);
+        }
+        if (current != null) {
+            add(target, current.getCompany(), current.getJobType(), current.getSalary(), 1);
+        }
+    }
+
+    // Overall when both are null; filtering by jobType and company together is not supported
+    public SalaryDistribution getDistribution(JobType jobType, String company) {
+        if (jobType != null && company != null) {
+            throw new BadRequestException("Filter by jobType or by company, not both");
+        }
+        Histograms current = histograms;
+        SalaryHistogram histogram = current.overall();
+        if (jobType != null) {
+            histogram = current.byJobType().get(jobType);
+        } else if (company != null) {
+            histogram = current.byCompany().getOrDefault(companyKey(company), empty);
+        }
+        double[] values = histogram.percentiles(PERCENTILES);
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            percentiles.put("p" + (int) PERCENTILES[i], values[i]);
+        }
+        List<SalaryHistogram.Bucket> buckets = histogram.buckets();
+        long count = buckets.stream().mapToLong(SalaryHistogram.Bucket::count).sum();
+        return new SalaryDistribution(jobType, company, count, bucketWidth, percentiles, buckets);
+    }
+
+    private Histograms newHistograms() {
+        Map<JobType, SalaryHistogram> byJobType = new EnumMap<>(JobType.class);
+        for (JobType jobType : JobType.values()) {
+            byJobType.put(jobType, new SalaryHistogram(bucketWidth, MAX_SALARY));
+        }
+        return new Histograms(new SalaryHistogram(bucketWidth, MAX_SALARY), byJobType, new ConcurrentHashMap<>());
+    }
+
+    private void add(Histograms target, String company, JobType jobType, Double salary, long delta) {
+        if (salary == null) {
+            return;
+        }
+        target.overall().add(salary, delta);
+        if (jobType != null) {
+            target.byJobType().get(jobType).add(salary, delta);
+        }
+        if (company != null) {
+            // compute runs atomically per company, so a histogram is dropped exactly when it empties
+            target.byCompany().compute(companyKey(company), (key, histogram) -> {
+                SalaryHistogram updated = histogram != null ? histogram : new SalaryHistogram(bucketWidth, MAX_SALARY);
+                updated.add(salary, delta);
+                return updated.count() == 0 ? null : updated;
+            });
+        }
+    }
+
+    // Company filters elsewhere ignore case, so "Acme" and "acme" share one histogram
+    private static String companyKey(String company) {
+        return company.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,210 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.dto.JobSearchHit;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.ME.job_management_system.exception.BadRequestException;
+import com.ME.job_management_system.repository.JobCursor;
+import com.ME.job_management_system.repository.JobRepository;
+import com.ME.job_management_system.repository.JobSearchCriteria;
+import com.ME.job_management_system.repository.ScoredJobId;
+import com.ME.job_management_system.util.InvertedIndex;
+import com.ME.job_management_system.util.TrigramIndex;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Relevance-ranked full-text search over job title, company and description, plus
+ * substring / typo-tolerant lookups on company and location.
+ * The in-memory indexes are built from the jobs table at startup and kept current from
+ * committed JobChangedEvents. Events only arrive for writes committed on this instance, so
+ * a fresh set of indexes is rebuilt every search.reindex-interval and swapped in; with
+ * several instances, writes made elsewhere become searchable within that interval.
+ * On PostgreSQL the company/location lookups use pg_trgm GIN indexes instead of the
+ * in-memory trigram indexes.
+ */
+@Service
+@Lazy(false) // the index must be built before the first job write is committed
+public class JobSearchService {
+
+    public static final int MAX_RESULTS = 100;
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float COMPANY_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    public enum FuzzyField {
+        COMPANY,
+        LOCATION
+    }
+
+    // One generation of indexes; a rebuild fills a new one and swaps it in
+    private record Indexes(InvertedIndex text, TrigramIndex company, TrigramIndex location) {
+
+        Indexes() {
+            this(new InvertedIndex(), new TrigramIndex(), new TrigramIndex());
+        }
+    }
+
+    private final JobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Indexes indexes = new Indexes();
+    // The generation being rebuilt, if any; it receives events too so none committed meanwhile is missed
+    private volatile Indexes building;
+
+    @Value("${search.trigram.similarity-threshold:0.3}")
+    private double similarityThreshold;
+
+    private boolean postgres;
+
+    public JobSearchService(JobRepository jobRepository, JdbcTemplate jdbcTemplate) {
+        this.jobRepository = jobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void init() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        // The pg_trgm extension and GIN indexes come from the postgresql migrations
+        postgres = "PostgreSQL".equalsIgnoreCase(database);
+        rebuildIndex();
+    }
+
+    // Picks up writes committed on other instances. A change committed while its page is being
+    // read can be missed or resurrected; the next rebuild corrects that too.
+    @Scheduled(initialDelayString = "${search.reindex-interval:5m}", fixedDelayString = "${search.reindex-interval:5m}")
+    public synchronized void rebuildIndex() {
+        Indexes fresh = new Indexes();
+        building = fresh;
+        try {
+            JobCursor cursor = null;
+            List<JobResponse> batch;
+            do {
+                batch = jobRepository.findPage(new JobSearchCriteria(), cursor, REBUILD_BATCH_SIZE);
+                batch.forEach(job -> indexJob(fresh, job));
+                if (!batch.isEmpty()) {
+                    JobResponse last = batch.get(batch.size() - 1);
+                    cursor = new JobCursor(last.getCreatedAt(), last.getId());
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            indexes = fresh;
+        } finally {
+            building = null;
+        }
+        logger.info("Job search index built with {} jobs", fresh.text().size());
+    }
+
+    @TransactionalEventListener
+    public void onJobChanged(JobChangedEvent event) {
+        apply(indexes, event);
+        Indexes rebuilding = building;
+        if (rebuilding != null) {
+            apply(rebuilding, event);
+        }
+    }
+
+    // Multi-term query; jobs matching more (and rarer) terms rank higher
+    public List<JobSearchHit> search(String query, int limit) {
+        List<String> terms = InvertedIndex.tokenize(query);
+        if (terms.isEmpty()) {
+            throw new BadRequestException("Search query must contain at least one word");
+        }
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        indexes.text().search(terms, clampLimit(limit)).forEach(hit -> scores.put(hit.docId(), hit.score()));
+        return loadHits(scores);
+    }
+
+    // Jobs whose company/location contains the query or is similar to it (typos, casing)
+    public List<JobSearchHit> fuzzySearch(FuzzyField field, String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be empty");
+        }
+        int max = clampLimit(limit);
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        if (postgres) {
+            String q = query.trim();
+            String pattern = likeEscape(q.toLowerCase(Locale.ROOT));
+            List<ScoredJobId> rows = field == FuzzyField.COMPANY
+                    ? jobRepository.findCompanyTrigramMatches(q, pattern, similarityThreshold, max)
+                    : jobRepository.findLocationTrigramMatches(q, pattern, similarityThreshold, max);
+            rows.forEach(row -> scores.put(row.getId(), row.getScore()));
+        } else {
+            Indexes current = indexes;
+            TrigramIndex trigramIndex = field == FuzzyField.COMPANY ? current.company() : current.location();
+            trigramIndex.search(query, similarityThreshold, max)
+                    .forEach(hit -> scores.put(hit.docId(), hit.score()));
+        }
+        return loadHits(scores);
+    }
+
+    // Loads the jobs for ranked ids with one query, keeping the ranking order
+    private List<JobSearchHit> loadHits(Map<Long, Double> scores) {
+        if (scores.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobResponse> jobs = jobRepository.findResponsesByIds(scores.keySet())
+                .stream()
+                .collect(Collectors.toMap(JobResponse::getId, Function.identity()));
+        return scores.entrySet().stream()
+                .map(score -> {
+                    JobResponse job = jobs.get(score.getKey());
+                    return job == null ? null : new JobSearchHit(job, score.getValue());
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // Same escaping as JobRepositoryImpl.containsIgnoreCase: % and _ in the query match literally
+    private static String likeEscape(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_RESULTS));
+    }
+
+    private void apply(Indexes target, JobChangedEvent event) {
+        if (event.getType() == JobChangedEvent.Type.DELETED) {
+            target.text().remove(event.getJobId());
+            target.company().remove(event.getJobId());
+            target.location().remove(event.getJobId());
+        } else {
+            indexJob(target, event.getCurrent());
+        }
+    }
+
+    private void indexJob(Indexes target, JobResponse job) {
+        Map<String, Float> terms = new HashMap<>();
+        InvertedIndex.addTerms(terms, job.getTitle(), TITLE_WEIGHT);
+        InvertedIndex.addTerms(terms, job.getCompany(), COMPANY_WEIGHT);
+        InvertedIndex.addTerms(terms, job.getDescription(), DESCRIPTION_WEIGHT);
+        target.text().put(job.getId(), terms);
+        if (!postgres) {
+            target.company().put(job.getId(), job.getCompany());
+            target.location().put(job.getId(), job.getLocation());
+        }
+    }
+}
@@ -1,34 +1,56 @@
 package com.ME.job_management_system.service;
 
+import com.ME.job_management_system.dto.BulkCreateResponse;
+import com.ME.job_management_system.dto.BulkJobResult;
+import com.ME.job_management_system.dto.CursorPage;
 import com.ME.job_management_system.dto.JobCreateRequest;
+import com.ME.job_management_system.dto.JobFilterRequest;
 import com.ME.job_management_system.dto.JobResponse;
 import com.ME.job_management_system.dto.JobUpdateRequest;
 import com.ME.job_management_system.entity.Job;
 import com.ME.job_management_system.entity.JobType;
 import com.ME.job_management_system.entity.User;
 import com.ME.job_management_system.entity.UserRole;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.ME.job_management_system.exception.BadRequestException;
 import com.ME.job_management_system.exception.ResourceNotFoundException;
+import com.ME.job_management_system.repository.JobCursor;
 import com.ME.job_management_system.repository.JobRepository;
+import com.ME.job_management_system.repository.JobSearchCriteria;
+import com.ME.job_management_system.repository.JobSort;
 import com.ME.job_management_system.util.SecurityUtil;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class JobService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BULK_SIZE = 5000;
+    // Matches hibernate.jdbc.batch_size and the jobs_id_seq allocation size
+    private static final int INSERT_BATCH_SIZE = 50;
+
     private final JobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
 
-    public JobService(JobRepository jobRepository) {
+    public JobService(JobRepository jobRepository, ApplicationEventPublisher eventPublisher, Validator validator) {
         this.jobRepository = jobRepository;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
     }
 
-    // Convert Entity to Response DTO
-    private JobResponse convertToResponse(Job job) {
+    // Convert Entity to Response DTO (package-private for the JMH mapping benchmark)
+    JobResponse convertToResponse(Job job) {
         JobResponse response = new JobResponse();
         response.setId(job.getId());
         response.setTitle(job.getTitle());
@@ -57,19 +79,36 @@ public class JobService {
         );
     }
 
+    // Fetch one keyset page; asks for one extra row to know whether a next page exists
+    private CursorPage<JobResponse> findPage(JobSearchCriteria criteria, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        JobCursor after = JobCursor.decode(cursor);
+        if (after != null && !after.matches(criteria.getSort())) {
+            throw new BadRequestException("Cursor does not belong to sort " + criteria.getSort());
+        }
+        List<JobResponse> jobs = jobRepository.findPage(criteria, after, pageSize + 1);
+
+        boolean hasNext = jobs.size() > pageSize;
+        List<JobResponse> items = hasNext ? jobs.subList(0, pageSize) : jobs;
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = JobCursor.after(items.get(items.size() - 1), criteria.getSort()).encode();
+        }
+        return new CursorPage<>(items, items.size(), nextCursor, hasNext);
+    }
+
     // Get all jobs - accessible to all authenticated users
-    public List<JobResponse> getAllJobs() {
-        return jobRepository.findAll()
-                .stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public CursorPage<JobResponse> getAllJobs(String cursor, int size) {
+        return findPage(new JobSearchCriteria(), cursor, size);
     }
 
     // Get job by ID - accessible to all authenticated users
+    // Loaded by primary key so the job and its creator come from the second-level cache when present
+    @Transactional(readOnly = true)
     public JobResponse getJobById(Long id) {
-        Job job = jobRepository.findById(id)
+        return jobRepository.findById(id)
+                .map(this::convertToResponse)
                 .orElseThrow(() -> new ResourceNotFoundException("Job", "id", id));
-        return convertToResponse(job);
     }
 
     // Create new job - only employers and admins can create jobs
@@ -77,7 +116,53 @@ public class JobService {
     public JobResponse createJob(JobCreateRequest jobRequest) {
         Job job = convertToEntity(jobRequest);
         Job savedJob = jobRepository.save(job);
-        return convertToResponse(savedJob);
+        JobResponse response = convertToResponse(savedJob);
+        eventPublisher.publishEvent(JobChangedEvent.created(savedJob.getCreatedBy().getId(), response));
+        return response;
+    }
+
+    // Bulk create - every item is validated on its own; valid items are inserted in JDBC batches,
+    // invalid ones are reported back with their constraint messages
+    @PreAuthorize("hasRole('EMPLOYER') or hasRole('ADMIN')")
+    public BulkCreateResponse createJobs(List<JobCreateRequest> jobRequests) {
+        if (jobRequests == null || jobRequests.isEmpty()) {
+            throw new BadRequestException("At least one job is required");
+        }
+        if (jobRequests.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("At most " + MAX_BULK_SIZE + " jobs can be created per request");
+        }
+
+        BulkJobResult[] results = new BulkJobResult[jobRequests.size()];
+        List<Job> jobs = new ArrayList<>(jobRequests.size());
+        List<Integer> positions = new ArrayList<>(jobRequests.size());
+        for (int i = 0; i < jobRequests.size(); i++) {
+            JobCreateRequest request = jobRequests.get(i);
+            List<String> errors = request == null
+                    ? List.of("Job must not be null")
+                    : validator.validate(request).stream()
+                            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                            .sorted()
+                            .toList();
+            if (errors.isEmpty()) {
+                jobs.add(convertToEntity(request));
+                positions.add(i);
+            } else {
+                results[i] = new BulkJobResult(i, BulkJobResult.Status.INVALID, null, errors);
+            }
+        }
+
+        if (!jobs.isEmpty()) {
+            jobRepository.persistAll(jobs, INSERT_BATCH_SIZE);
+        }
+        for (int i = 0; i < jobs.size(); i++) {
+            Job job = jobs.get(i);
+            JobResponse response = convertToResponse(job);
+            eventPublisher.publishEvent(JobChangedEvent.created(job.getCreatedBy().getId(), response));
+            int position = positions.get(i);
+            results[position] = new BulkJobResult(position, BulkJobResult.Status.CREATED, job.getId(), List.of());
+        }
+        return new BulkCreateResponse(jobRequests.size(), jobs.size(), jobRequests.size() - jobs.size(),
+                Arrays.asList(results));
     }
 
     // Update existing job - only job creator or admin can update
@@ -91,6 +176,7 @@ public class JobService {
                 !currentUser.getRole().equals(UserRole.ADMIN)) { // Enhanced admin check
             throw new RuntimeException("You can only update your own jobs");
         }
+        JobResponse previous = convertToResponse(existingJob);
 
         // Update only the provided fields
         if (jobRequest.getTitle() != null) {
@@ -112,8 +198,10 @@ public class JobService {
             existingJob.setJobType(jobRequest.getJobType());
         }
 
-        Job updatedJob = jobRepository.save(existingJob);
-        return convertToResponse(updatedJob);
+        Job updatedJob = jobRepository.saveAndFlush(existingJob); // flush so updatedAt is final in the event
+        JobResponse response = convertToResponse(updatedJob);
+        eventPublisher.publishEvent(JobChangedEvent.updated(updatedJob.getCreatedBy().getId(), previous, response));
+        return response;
     }
 
     // Delete job - only job creator or admin can delete
@@ -129,88 +217,122 @@ public class JobService {
         }
 
         jobRepository.delete(job);
+        eventPublisher.publishEvent(JobChangedEvent.deleted(job.getCreatedBy().getId(), convertToResponse(job)));
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public JobResponse getAnyJob(Long id) {
-        Job job = jobRepository.findById(id)
+        return jobRepository.findById(id)
+                .map(this::convertToResponse)
                 .orElseThrow(() -> new ResourceNotFoundException("Job", "id", id));
-        return convertToResponse(job);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
     public void deleteAnyJob(Long id) {
-        if (!jobRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Job", "id", id);
+        Job job = jobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", "id", id));
+        jobRepository.delete(job);
+        eventPublisher.publishEvent(JobChangedEvent.deleted(job.getCreatedBy().getId(), convertToResponse(job)));
+    }
+
+    // Remove every job of a user that is about to be deleted, publishing an event per job
+    // so in-memory read models stay exact (the users -> jobs cascade would bypass them)
+    @PreAuthorize("hasRole('ADMIN')")
+    public void deleteAllJobsOf(Long userId) {
+        List<JobResponse> jobs = jobRepository.findResponsesByCreatedById(userId);
+        if (jobs.isEmpty()) {
+            return;
         }
-        jobRepository.deleteById(id);
+        jobRepository.deleteAllByIdInBatch(jobs.stream().map(JobResponse::getId).toList());
+        jobs.forEach(job -> eventPublisher.publishEvent(JobChangedEvent.deleted(userId, job)));
     }
 
     // Get jobs created by current user
-    public List<JobResponse> getMyJobs() {
-        User currentUser = SecurityUtil.getCurrentUser();
-        return jobRepository.findByCreatedBy(currentUser)
-                .stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public CursorPage<JobResponse> getMyJobs(String cursor, int size) {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setCreatedById(SecurityUtil.getCurrentUserId());
+        return findPage(criteria, cursor, size);
     }
 
     // Search jobs by company - accessible to all
-    public List<JobResponse> getJobsByCompany(String company) {
-        List<Job> jobs = jobRepository.findByCompany(company);
-        if (jobs.isEmpty()) {
+    public CursorPage<JobResponse> getJobsByCompany(String company, String cursor, int size) {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setCompany(company);
+        CursorPage<JobResponse> page = findPage(criteria, cursor, size);
+        if (cursor == null && page.getItems().isEmpty()) {
             throw new ResourceNotFoundException("Jobs", "company", company);
         }
-        return jobs.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return page;
     }
 
     // Search jobs by location - accessible to all
-    public List<JobResponse> getJobsByLocation(String location) {
-        return jobRepository.findByLocationContainingIgnoreCase(location)
-                .stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public CursorPage<JobResponse> getJobsByLocation(String location, String cursor, int size) {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setLocationContains(location);
+        return findPage(criteria, cursor, size);
     }
 
     // Search by title - accessible to all
-    public List<JobResponse> getJobsByTitle(String title) {
-        return jobRepository.findByTitleContainingIgnoreCase(title)
-                .stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public CursorPage<JobResponse> getJobsByTitle(String title, String cursor, int size) {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setTitleContains(title);
+        return findPage(criteria, cursor, size);
     }
 
     // Search by job type - accessible to all
-    public List<JobResponse> getJobsByJobType(JobType jobType) {
-        List<Job> jobs = jobRepository.findByJobType(jobType);
-        if (jobs.isEmpty()) {
+    public CursorPage<JobResponse> getJobsByJobType(JobType jobType, String cursor, int size) {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setJobType(jobType);
+        CursorPage<JobResponse> page = findPage(criteria, cursor, size);
+        if (cursor == null && page.getItems().isEmpty()) {
             throw new ResourceNotFoundException("Jobs", "jobType", jobType);
         }
-        return jobs.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return page;
     }
 
-    // Get total jobs count
-    public Long getTotalJobsCount() {
-        return jobRepository.count();
+    // Salary range in salary order, so the (salary, id) index serves both the range and the keyset order
+    public CursorPage<JobResponse> getJobsBySalaryRange(Double minSalary, Double maxSalary, JobSort sort,
+                                                        String cursor, int size) {
+        if (!sort.isBySalary()) {
+            throw new BadRequestException("sort must be SALARY_LOW or SALARY_HIGH");
+        }
+        if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+            throw new BadRequestException("minSalary must not be greater than maxSalary");
+        }
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setMinSalary(minSalary);
+        criteria.setMaxSalary(maxSalary);
+        criteria.setSort(sort);
+        return findPage(criteria, cursor, size);
+    }
+
+    // Combined filter - every criterion is optional and all of them go into one query
+    public CursorPage<JobResponse> filterJobs(JobFilterRequest filter, String cursor, int size) {
+        if (filter.getMinSalary() != null && filter.getMaxSalary() != null
+                && filter.getMinSalary() > filter.getMaxSalary()) {
+            throw new BadRequestException("minSalary must not be greater than maxSalary");
+        }
+        if (filter.getCreatedFrom() != null && filter.getCreatedTo() != null
+                && filter.getCreatedFrom().isAfter(filter.getCreatedTo())) {
+            throw new BadRequestException("createdFrom must not be after createdTo");
+        }
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setCompany(filter.getCompany());
+        criteria.setLocationContains(filter.getLocation());
+        criteria.setJobType(filter.getJobType());
+        criteria.setMinSalary(filter.getMinSalary());
+        criteria.setMaxSalary(filter.getMaxSalary());
+        criteria.setCreatedFrom(filter.getCreatedFrom());
+        criteria.setCreatedTo(filter.getCreatedTo());
+        if (filter.getSort() != null) {
+            criteria.setSort(filter.getSort());
+        }
+        return findPage(criteria, cursor, size);
     }
 
     // Get jobs count by company
     public long getJobsCountByCompany(String company) {
         return jobRepository.countByCompany(company);
     }
-
-    // Get jobs count by job type
-    public long getJobsCountByJobType(JobType jobType) {
-        return jobRepository.countByJobType(jobType);
-    }
-
-    // Get current user's jobs count
-    public long getMyJobsCount() {
-        User currentUser = SecurityUtil.getCurrentUser();
-        return jobRepository.countByCreatedBy(currentUser);
-    }
 }
\ No newline at end of file
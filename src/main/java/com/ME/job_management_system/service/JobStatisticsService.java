@@ -0,0 +1,112 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.entity.JobType;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.ME.job_management_system.repository.JobCountRow;
+import com.ME.job_management_system.repository.JobRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Job counts per JobType and per employer, kept in memory.
+ * Seeded with one GROUP BY query at startup and then maintained from committed
+ * JobChangedEvents, so the statistics endpoints never query the jobs table.
+ * Events only arrive for writes committed on this instance, so the counters are
+ * reseeded from the database every statistics.reseed-interval; with several
+ * instances the figures can lag writes made elsewhere by up to that interval.
+ */
+@Service
+@Lazy(false) // must be seeded before the first job write is committed
+public class JobStatisticsService {
+
+    private static final JobType[] JOB_TYPES = JobType.values();
+    // Jobs without a type are counted in the slot after the last JobType
+    private static final int UNTYPED = JOB_TYPES.length;
+
+    // One generation of counters; a reseed swaps in a complete new one
+    private record Counts(AtomicLong total, AtomicLongArray byType, ConcurrentMap<Long, AtomicLongArray> byCreator) {
+
+        Counts() {
+            this(new AtomicLong(), new AtomicLongArray(JOB_TYPES.length + 1), new ConcurrentHashMap<>());
+        }
+    }
+
+    private final JobRepository jobRepository;
+    private volatile Counts counts = new Counts();
+
+    public JobStatisticsService(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    @PostConstruct
+    void loadCounts() {
+        Counts seeded = new Counts();
+        for (JobCountRow row : jobRepository.countGroupedByJobTypeAndCreator()) {
+            add(seeded, row.getJobType(), row.getCreatedById(), row.getTotal());
+        }
+        counts = seeded;
+    }
+
+    // Picks up writes committed on other instances. An event applied while the query runs can be
+    // lost or counted twice; the next reseed corrects that too.
+    @Scheduled(initialDelayString = "${statistics.reseed-interval:5m}", fixedDelayString = "${statistics.reseed-interval:5m}")
+    public void reseed() {
+        loadCounts();
+    }
+
+    @TransactionalEventListener
+    public void onJobChanged(JobChangedEvent event) {
+        Counts current = counts;
+        switch (event.getType()) {
+            case CREATED -> add(current, event.getCurrent().getJobType(), event.getCreatedById(), 1);
+            case DELETED -> add(current, event.getPrevious().getJobType(), event.getCreatedById(), -1);
+            case UPDATED -> {
+                JobType before = event.getPrevious().getJobType();
+                JobType after = event.getCurrent().getJobType();
+                if (before != after) {
+                    add(current, before, event.getCreatedById(), -1);
+                    add(current, after, event.getCreatedById(), 1);
+                }
+            }
+        }
+    }
+
+    // Includes jobs without a type
+    public long getTotalJobsCount() {
+        return counts.total().get();
+    }
+
+    public long getJobsCountByJobType(JobType jobType) {
+        return counts.byType().get(jobType.ordinal());
+    }
+
+    public long getJobsCountByCreator(Long userId) {
+        AtomicLongArray creatorCounts = counts.byCreator().get(userId);
+        if (creatorCounts == null) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < creatorCounts.length(); i++) {
+            total += creatorCounts.get(i);
+        }
+        return total;
+    }
+
+    private static void add(Counts counts, JobType jobType, Long createdById, long delta) {
+        int slot = jobType == null ? UNTYPED : jobType.ordinal();
+        counts.total().addAndGet(delta);
+        counts.byType().addAndGet(slot, delta);
+        if (createdById != null) {
+            counts.byCreator().computeIfAbsent(createdById, id -> new AtomicLongArray(JOB_TYPES.length + 1))
+                    .addAndGet(slot, delta);
+        }
+    }
+}
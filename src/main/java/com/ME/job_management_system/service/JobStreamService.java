@@ -0,0 +1,266 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.entity.JobType;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.ME.job_management_system.exception.ServiceBusyException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-Sent Events feed of committed job changes for GET /api/jobs/stream.
+ * Connections are async servlet requests, so an idle subscriber holds no thread. Each
+ * change is encoded once and offered to the bounded queue of every matching subscriber;
+ * queues are drained on a dedicated send pool, at most one drain per subscriber at a time,
+ * so slow clients cannot tie up the application task executor. A full queue either drops
+ * its oldest event or disconnects the subscriber, who can reconnect and resume from the
+ * list endpoints; a saturated send pool disconnects the subscriber it could not serve.
+ * Pool metrics are published as the "jobs.stream.send" executor.
+ */
+@Service
+public class JobStreamService {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        DISCONNECT
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ObjectMapper objectMapper;
+    private final Executor sendExecutor;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+    private final Counter droppedEvents;
+    private final Counter disconnectedSubscribers;
+
+    @Value("${jobs.stream.max-subscribers:50000}")
+    private int maxSubscribers;
+
+    @Value("${jobs.stream.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${jobs.stream.overflow-policy:DROP_OLDEST}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${jobs.stream.timeout:30m}")
+    private Duration timeout;
+
+    @Autowired
+    public JobStreamService(ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${jobs.stream.send-threads:8}") int sendThreads,
+                            @Value("${jobs.stream.send-queue-capacity:10000}") int sendQueueCapacity) {
+        this(objectMapper, newSendExecutor(sendThreads, sendQueueCapacity, meterRegistry), meterRegistry);
+    }
+
+    JobStreamService(ObjectMapper objectMapper, Executor sendExecutor, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.sendExecutor = sendExecutor;
+        Gauge.builder("jobs.stream.subscribers", subscribers, Set::size)
+                .description("Open job stream connections")
+                .register(meterRegistry);
+        this.droppedEvents = Counter.builder("jobs.stream.events.dropped")
+                .description("Events dropped because a subscriber's buffer was full")
+                .register(meterRegistry);
+        this.disconnectedSubscribers = Counter.builder("jobs.stream.subscribers.disconnected")
+                .description("Subscribers disconnected because their buffer was full or the send pool was saturated")
+                .register(meterRegistry);
+    }
+
+    // company and jobType are optional filters; null matches every job
+    public SseEmitter subscribe(String company, JobType jobType) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceBusyException("Too many job stream subscribers", Duration.ofSeconds(30));
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, company, jobType, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        // Clients reconnect after a timeout, so it ends the stream normally
+        emitter.onTimeout(emitter::complete);
+        subscribers.add(subscriber);
+        offer(subscriber, heartbeat); // flushes the response headers right away
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onJobChanged(JobChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        JobResponse job = event.getCurrent() != null ? event.getCurrent() : event.getPrevious();
+        Set<DataWithMediaType> message;
+        try {
+            message = SseEmitter.event()
+                    .id(Long.toString(eventIds.incrementAndGet()))
+                    .name(event.getType().name().toLowerCase(Locale.ROOT))
+                    .data(objectMapper.writeValueAsString(job))
+                    .build();
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not encode job {} for the stream: {}", event.getJobId(), e.getMessage());
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            // An update that moves a job out of the filter is still delivered, so the client can drop it
+            if (subscriber.matches(event.getCurrent()) || subscriber.matches(event.getPrevious())) {
+                offer(subscriber, message);
+            }
+        }
+    }
+
+    // Keeps proxies from closing idle connections and detects clients that went away.
+    // Idle subscribers get the heartbeat through their own queue and drain, like any event;
+    // busy ones are sending anyway.
+    @Scheduled(fixedDelayString = "${jobs.stream.heartbeat-interval:30s}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue().isEmpty() && !subscriber.draining().get()) {
+                offer(subscriber, heartbeat);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (sendExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void offer(Subscriber subscriber, Set<DataWithMediaType> message) {
+        if (!subscriber.queue().offer(message)) {
+            if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                disconnectedSubscribers.increment();
+                subscribers.remove(subscriber);
+                subscriber.emitter().complete();
+                return;
+            }
+            subscriber.queue().poll();
+            droppedEvents.increment();
+            if (!subscriber.queue().offer(message)) {
+                droppedEvents.increment();
+            }
+        }
+        if (subscriber.draining().compareAndSet(false, true)) {
+            try {
+                sendExecutor.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Every send thread is busy and the backlog is full: shed this subscriber, it can reconnect
+                disconnectedSubscribers.increment();
+                subscribers.remove(subscriber);
+                subscriber.queue().clear();
+                subscriber.emitter().complete();
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Set<DataWithMediaType> message;
+            while ((message = subscriber.queue().poll()) != null) {
+                if (!send(subscriber, message)) {
+                    break;
+                }
+            }
+            subscriber.draining().set(false);
+            // Re-check: an event offered after the last poll found draining still set
+        } while (!subscriber.queue().isEmpty() && subscriber.draining().compareAndSet(false, true));
+    }
+
+    // Returns false when the client is gone or the stream already completed
+    private boolean send(Subscriber subscriber, Set<DataWithMediaType> message) {
+        try {
+            subscriber.emitter().send(message);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.queue().clear();
+            return false;
+        }
+    }
+
+    private static ThreadPoolExecutor newSendExecutor(int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "job-stream-send-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "jobs.stream.send");
+        return executor;
+    }
+
+    // Identity equality: two subscribers with the same filter are different connections
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final String company;
+        private final JobType jobType;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, String company, JobType jobType, BlockingQueue<Set<DataWithMediaType>> queue) {
+            this.emitter = emitter;
+            this.company = company;
+            this.jobType = jobType;
+            this.queue = queue;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        BlockingQueue<Set<DataWithMediaType>> queue() {
+            return queue;
+        }
+
+        AtomicBoolean draining() {
+            return draining;
+        }
+
+        boolean matches(JobResponse job) {
+            return job != null
+                    && (company == null || company.equalsIgnoreCase(job.getCompany()))
+                    && (jobType == null || jobType == job.getJobType());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versions behind the conditional GET support of the job endpoints.
+ * Single jobs are versioned by id and updatedAt; the last known updatedAt per job is
+ * remembered so a matching If-None-Match can be answered without a query.
+ * Collections share one catalog version that every committed write bumps. The catalog
+ * version is per instance, so its ETags carry a random instance id.
+ * Both only see writes committed on this instance. With several instances, a write on
+ * another one is noticed once etag.job-versions.ttl has passed: remembered versions expire
+ * that long after they were recorded, and catalog ETags change every ttl. A 304 can thus be
+ * at most one ttl stale.
+ */
+@Service
+public class JobVersionService {
+
+    // Marks a deleted job so a read that raced the delete cannot put it back
+    private static final LocalDateTime DELETED = LocalDateTime.MAX;
+
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong catalogVersion = new AtomicLong();
+
+    @Value("${etag.job-versions.max-size:100000}")
+    private long maxTrackedJobs;
+
+    @Value("${etag.job-versions.ttl:5s}")
+    private Duration ttl;
+
+    // Replaced in tests
+    Ticker ticker = Ticker.systemTicker();
+
+    private Cache<Long, LocalDateTime> jobVersions;
+
+    @PostConstruct
+    void init() {
+        jobVersions = Caffeine.newBuilder()
+                .maximumSize(maxTrackedJobs)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .build();
+    }
+
+    @TransactionalEventListener
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() == JobChangedEvent.Type.DELETED) {
+            jobVersions.put(event.getJobId(), DELETED);
+        } else {
+            record(event.getJobId(), event.getCurrent().getUpdatedAt());
+        }
+        catalogVersion.incrementAndGet();
+    }
+
+    // Called after a job was read from the database
+    public void recordRead(JobResponse job) {
+        record(job.getId(), job.getUpdatedAt());
+    }
+
+    // Last known updatedAt of a job, or null when the job is unknown or deleted
+    public LocalDateTime getKnownUpdatedAt(Long jobId) {
+        LocalDateTime updatedAt = jobVersions.getIfPresent(jobId);
+        return updatedAt == null || updatedAt.equals(DELETED) ? null : updatedAt;
+    }
+
+    public String jobETag(Long jobId, LocalDateTime updatedAt) {
+        return "\"j" + jobId + "-" + Long.toHexString(toMicros(updatedAt)) + "\"";
+    }
+
+    // Read before running the query, so a concurrent write can only cause a spurious miss.
+    // The ttl window number bounds how long writes on other instances go unnoticed.
+    public String catalogETag(String requestKey) {
+        long window = ticker.read() / ttl.toNanos();
+        return "\"c" + instanceId + "-" + Long.toHexString(window) + "-" + catalogVersion.get()
+                + "-" + Integer.toHexString(requestKey.hashCode()) + "\"";
+    }
+
+    // Keeps the newest updatedAt, compared at database (microsecond) precision
+    private void record(Long jobId, LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return;
+        }
+        LocalDateTime truncated = updatedAt.truncatedTo(ChronoUnit.MICROS);
+        jobVersions.asMap().merge(jobId, truncated, (known, candidate) -> known.isAfter(candidate) ? known : candidate);
+    }
+
+    private static long toMicros(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return 0;
+        }
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), updatedAt);
+    }
+}
@@ -0,0 +1,262 @@
+package com.ME.job_management_system.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory inverted index with BM25 ranking. Documents are identified by a long id and
+ * described by weighted term frequencies, so callers can boost fields such as titles.
+ * Each term keeps its postings in two parallel primitive arrays (document ids and weights),
+ * and a search accumulates scores in a primitive hash table before keeping the best hits in
+ * a bounded heap, so neither the index nor a query boxes per posting.
+ * Writes are serialized; searches run concurrently and may see a write half applied.
+ * The index lives in the memory of one instance and only reflects what that instance put in.
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ConcurrentMap<String, Postings> postings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Document> documents = new ConcurrentHashMap<>();
+    private volatile double totalLength;
+
+    public record Hit(long docId, double score) {
+    }
+
+    private record Document(String[] terms, float length) {
+    }
+
+    // Lower-cases and splits on anything that is not a letter or digit; single characters are dropped
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() > 1) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // Adds term weights for every token of text to the given map
+    public static void addTerms(Map<String, Float> terms, String text, float weight) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, weight, Float::sum);
+        }
+    }
+
+    public synchronized void put(long docId, Map<String, Float> terms) {
+        remove(docId);
+        float length = 0;
+        for (Map.Entry<String, Float> term : terms.entrySet()) {
+            Postings docs = postings.computeIfAbsent(term.getKey(), key -> new Postings(4));
+            Postings grown = docs.add(docId, term.getValue());
+            if (grown != docs) {
+                postings.put(term.getKey(), grown);
+            }
+            length += term.getValue();
+        }
+        documents.put(docId, new Document(terms.keySet().toArray(new String[0]), length));
+        totalLength += length;
+    }
+
+    public synchronized void remove(long docId) {
+        Document document = documents.remove(docId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            Postings docs = postings.get(term);
+            if (docs != null && docs.remove(docId)) {
+                if (docs.live() == 0) {
+                    postings.remove(term);
+                } else if (docs.removed > docs.live()) {
+                    postings.put(term, docs.compact());
+                }
+            }
+        }
+        totalLength -= document.length();
+    }
+
+    public synchronized void clear() {
+        postings.clear();
+        documents.clear();
+        totalLength = 0;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    // Documents matching any of the terms, best BM25 score first
+    public List<Hit> search(Collection<String> queryTerms, int limit) {
+        int documentCount = documents.size();
+        if (documentCount == 0 || limit <= 0) {
+            return List.of();
+        }
+        double averageLength = Math.max(totalLength / documentCount, 1e-9);
+
+        ScoreTable scores = new ScoreTable();
+        for (String term : new LinkedHashSet<>(queryTerms)) {
+            Postings docs = postings.get(term);
+            if (docs == null) {
+                continue;
+            }
+            int removed = docs.removed; // volatile reads first: later slots and tombstones are then visible
+            int size = docs.size;
+            int live = size - removed;
+            if (live <= 0) {
+                continue;
+            }
+            double idf = Math.log(1 + (documentCount - live + 0.5) / (live + 0.5));
+            for (int i = 0; i < size; i++) {
+                double tf = docs.weights[i];
+                if (tf <= 0) {
+                    continue; // removed
+                }
+                long docId = docs.docIds[i];
+                Document document = documents.get(docId);
+                if (document == null) {
+                    continue; // removed concurrently
+                }
+                double norm = K1 * (1 - B + B * document.length() / averageLength);
+                scores.add(docId, idf * tf * (K1 + 1) / (tf + norm));
+            }
+        }
+
+        // Bounded min-heap keeps only the best `limit` hits
+        PriorityQueue<Hit> top = new PriorityQueue<>(Math.min(limit, scores.size) + 1, Comparator.comparingDouble(Hit::score));
+        for (int slot = 0; slot < scores.keys.length; slot++) {
+            if (!scores.used[slot]) {
+                continue;
+            }
+            double score = scores.values[slot];
+            if (top.size() < limit) {
+                top.add(new Hit(scores.keys[slot], score));
+            } else if (score > top.peek().score()) {
+                top.poll();
+                top.add(new Hit(scores.keys[slot], score));
+            }
+        }
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+        return hits;
+    }
+
+    /*
+     * Postings of one term: parallel arrays filled up to size. Removal zeroes the weight in place
+     * (weights are always positive) and compaction happens once most slots are dead. Slots are
+     * written before the volatile size/removed counters, so a reader that reads those first sees them;
+     * growing or compacting publishes a new instance instead of touching the arrays readers may hold.
+     */
+    private static final class Postings {
+
+        final long[] docIds;
+        final float[] weights;
+        volatile int size;
+        volatile int removed;
+
+        Postings(int capacity) {
+            docIds = new long[capacity];
+            weights = new float[capacity];
+        }
+
+        int live() {
+            return size - removed;
+        }
+
+        // Returns this, or a larger copy holding the new posting when the arrays were full
+        Postings add(long docId, float weight) {
+            Postings target = this;
+            if (size == docIds.length) {
+                target = copy(docIds.length * 2);
+            }
+            int slot = target.size;
+            target.docIds[slot] = docId;
+            target.weights[slot] = weight;
+            target.size = slot + 1;
+            return target;
+        }
+
+        boolean remove(long docId) {
+            for (int i = 0; i < size; i++) {
+                if (docIds[i] == docId && weights[i] > 0) {
+                    weights[i] = 0;
+                    removed = removed + 1;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Postings compact() {
+            return copy(Math.max(4, live() * 2));
+        }
+
+        private Postings copy(int capacity) {
+            Postings copy = new Postings(capacity);
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (weights[i] > 0) {
+                    copy.docIds[count] = docIds[i];
+                    copy.weights[count] = weights[i];
+                    count++;
+                }
+            }
+            copy.size = count;
+            return copy;
+        }
+    }
+
+    // Open-addressing docId -> score table for one search
+    private static final class ScoreTable {
+
+        long[] keys = new long[64];
+        double[] values = new double[64];
+        boolean[] used = new boolean[64];
+        int size;
+
+        void add(long key, double value) {
+            if (size * 2 >= keys.length) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+            while (used[slot] && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (!used[slot]) {
+                used[slot] = true;
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] += value;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            double[] oldValues = values;
+            boolean[] oldUsed = used;
+            keys = new long[oldKeys.length * 2];
+            values = new double[oldKeys.length * 2];
+            used = new boolean[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    add(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ME.job_management_system.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket per key, implemented as GCRA: each key holds a single "theoretical arrival
+ * time" that a request advances by one emission interval with a compare-and-set, so there
+ * are no locks and no refill timers. Keys live in a bounded Caffeine map and are evicted
+ * once idle long enough for their bucket to be full again, which loses no state.
+ */
+public class RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoClock;
+    private final long origin;
+    private final Cache<String, AtomicLong> arrivalTimes;
+
+    public RateLimiter(int capacity, double refillPerSecond, long maxKeys) {
+        this(capacity, refillPerSecond, maxKeys, System::nanoTime);
+    }
+
+    RateLimiter(int capacity, double refillPerSecond, long maxKeys, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity must be at least 1 and the refill rate positive");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+        this.arrivalTimes = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(burstToleranceNanos + emissionIntervalNanos))
+                .build();
+    }
+
+    /**
+     * Takes one token for the key. Returns zero when the request may proceed, otherwise
+     * how long to wait before the next token is available.
+     */
+    public Duration tryAcquire(String key) {
+        AtomicLong arrivalTime = arrivalTimes.get(key, k -> new AtomicLong());
+        long now = nanoClock.getAsLong() - origin;
+        while (true) {
+            long stored = arrivalTime.get();
+            long theoretical = Math.max(stored, now);
+            long allowedAt = theoretical - burstToleranceNanos;
+            if (now < allowedAt) {
+                return Duration.ofNanos(allowedAt - now);
+            }
+            if (arrivalTime.compareAndSet(stored, theoretical + emissionIntervalNanos)) {
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    public long trackedKeys() {
+        return arrivalTimes.estimatedSize();
+    }
+}
@@ -0,0 +1,90 @@
+package com.ME.job_management_system.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-width salary histogram with lock-free counters. Salaries are bounded (Job
+ * validates 0 to 1,000,000), so a flat array of buckets covers the whole range; values
+ * outside it are clamped into the first or last bucket. Percentiles are interpolated
+ * linearly inside their bucket, so they are accurate to one bucket width.
+ */
+public class SalaryHistogram {
+
+    public record Bucket(double from, double to, long count) {
+    }
+
+    private final double bucketWidth;
+    private final AtomicLongArray counts;
+
+    public SalaryHistogram(double bucketWidth, double maxSalary) {
+        if (bucketWidth <= 0 || maxSalary < 0) {
+            throw new IllegalArgumentException("Bucket width must be positive and the maximum salary not negative");
+        }
+        this.bucketWidth = bucketWidth;
+        this.counts = new AtomicLongArray((int) (maxSalary / bucketWidth) + 1);
+    }
+
+    public void add(double salary, long delta) {
+        int bucket = (int) Math.min(Math.max(0, Math.floor(salary / bucketWidth)), counts.length() - 1);
+        counts.addAndGet(bucket, delta);
+    }
+
+    public long count() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    public double getBucketWidth() {
+        return bucketWidth;
+    }
+
+    // Salaries below which the given percentages (0-100) of jobs fall, from one snapshot; empty when no jobs
+    public double[] percentiles(double... percentages) {
+        long[] snapshot = snapshot();
+        long total = 0;
+        for (long count : snapshot) {
+            total += count;
+        }
+        if (total == 0) {
+            return new double[0];
+        }
+        double[] values = new double[percentages.length];
+        for (int p = 0; p < percentages.length; p++) {
+            double rank = percentages[p] / 100.0 * total;
+            long cumulative = 0;
+            for (int i = 0; i < snapshot.length; i++) {
+                if (snapshot[i] > 0 && cumulative + snapshot[i] >= rank) {
+                    values[p] = (i + (rank - cumulative) / snapshot[i]) * bucketWidth;
+                    break;
+                }
+                cumulative += snapshot[i];
+            }
+        }
+        return values;
+    }
+
+    // Non-empty buckets in salary order
+    public List<Bucket> buckets() {
+        long[] snapshot = snapshot();
+        List<Bucket> buckets = new ArrayList<>();
+        for (int i = 0; i < snapshot.length; i++) {
+            if (snapshot[i] > 0) {
+                buckets.add(new Bucket(i * bucketWidth, (i + 1) * bucketWidth, snapshot[i]));
+            }
+        }
+        return buckets;
+    }
+
+    private long[] snapshot() {
+        long[] snapshot = new long[counts.length()];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,168 @@
+package com.ME.job_management_system.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory trigram index over a short text field (company, location), mirroring
+ * PostgreSQL pg_trgm: each word is padded with two leading and one trailing blank and
+ * similarity is shared trigrams / union of trigrams. Distinct values are indexed once
+ * and map to the ids of the documents carrying them.
+ */
+public class TrigramIndex {
+
+    private final ConcurrentMap<String, Set<String>> valuesByTrigram = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Integer> trigramCountByValue = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, NavigableSet<Long>> idsByValue = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, String> valueById = new ConcurrentHashMap<>();
+
+    public record Hit(long docId, double score) {
+    }
+
+    public static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : normalize(text).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    public synchronized void put(long docId, String value) {
+        remove(docId);
+        String normalized = normalize(value);
+        valueById.put(docId, normalized);
+        Set<Long> ids = idsByValue.computeIfAbsent(normalized, key -> new ConcurrentSkipListSet<>());
+        if (ids.isEmpty()) {
+            Set<String> trigrams = trigrams(normalized);
+            trigramCountByValue.put(normalized, trigrams.size());
+            for (String trigram : trigrams) {
+                valuesByTrigram.computeIfAbsent(trigram, key -> ConcurrentHashMap.newKeySet()).add(normalized);
+            }
+        }
+        ids.add(docId);
+    }
+
+    public synchronized void remove(long docId) {
+        String value = valueById.remove(docId);
+        if (value == null) {
+            return;
+        }
+        Set<Long> ids = idsByValue.get(value);
+        ids.remove(docId);
+        if (ids.isEmpty()) {
+            idsByValue.remove(value);
+            trigramCountByValue.remove(value);
+            for (String trigram : trigrams(value)) {
+                Set<String> values = valuesByTrigram.get(trigram);
+                if (values != null) {
+                    values.remove(value);
+                    if (values.isEmpty()) {
+                        valuesByTrigram.remove(trigram);
+                    }
+                }
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        valuesByTrigram.clear();
+        trigramCountByValue.clear();
+        idsByValue.clear();
+        valueById.clear();
+    }
+
+    /**
+     * Documents whose value contains the query or is at least {@code threshold} similar to it.
+     * Substring matches score the mean of similarity and the share of query trigrams they
+     * contain (pg_trgm's word_similarity). Best matches first, newest id first within a value.
+     * Queries shorter than one trigram are answered by a substring scan over the distinct values.
+     */
+    public List<Hit> search(String query, double threshold, int limit) {
+        String normalizedQuery = normalize(query);
+        Set<String> queryTrigrams = trigrams(normalizedQuery);
+        if (queryTrigrams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (normalizedQuery.length() < 3) {
+            return collectHits(substringMatches(normalizedQuery), limit);
+        }
+
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            Set<String> values = valuesByTrigram.get(trigram);
+            if (values != null) {
+                values.forEach(value -> shared.merge(value, 1, Integer::sum));
+            }
+        }
+
+        List<Map.Entry<String, Double>> matches = new ArrayList<>();
+        for (Map.Entry<String, Integer> candidate : shared.entrySet()) {
+            String value = candidate.getKey();
+            Integer valueTrigrams = trigramCountByValue.get(value);
+            if (valueTrigrams == null) {
+                continue; // removed concurrently
+            }
+            int common = candidate.getValue();
+            double score = (double) common / (queryTrigrams.size() + valueTrigrams - common);
+            if (value.contains(normalizedQuery)) {
+                // Always a match; closer overall similarity still ranks first
+                score = (score + (double) common / queryTrigrams.size()) / 2;
+            } else if (score < threshold) {
+                continue;
+            }
+            matches.add(Map.entry(value, score));
+        }
+        return collectHits(matches, limit);
+    }
+
+    // Values containing a one- or two-character query, which shares too few trigrams with them to be found
+    // through the trigram postings; the share of the value the query covers is the score
+    private List<Map.Entry<String, Double>> substringMatches(String normalizedQuery) {
+        List<Map.Entry<String, Double>> matches = new ArrayList<>();
+        for (String value : idsByValue.keySet()) {
+            if (value.contains(normalizedQuery)) {
+                matches.add(Map.entry(value, (double) normalizedQuery.length() / value.length()));
+            }
+        }
+        return matches;
+    }
+
+    private List<Hit> collectHits(List<Map.Entry<String, Double>> matches, int limit) {
+        matches.sort(Map.Entry.<String, Double>comparingByValue().reversed());
+
+        // Walk values best-first, taking their newest documents until the limit is reached
+        List<Hit> hits = new ArrayList<>();
+        for (Map.Entry<String, Double> match : matches) {
+            NavigableSet<Long> ids = idsByValue.get(match.getKey());
+            if (ids == null) {
+                continue;
+            }
+            for (Long id : ids.descendingSet()) {
+                if (hits.size() == limit) {
+                    return hits;
+                }
+                hits.add(new Hit(id, match.getValue()));
+            }
+        }
+        return hits;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
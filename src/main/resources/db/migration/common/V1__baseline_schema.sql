@@ -0,0 +1,29 @@
+-- Baseline: the users and jobs tables as Hibernate created them before migrations were introduced.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate) and skip it;
+-- every later change is a separate migration so it also reaches those databases.
+
+CREATE TABLE users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    first_name VARCHAR(255) NOT NULL,
+    last_name  VARCHAR(255) NOT NULL,
+    role       VARCHAR(255) NOT NULL CHECK (role IN ('USER', 'EMPLOYER', 'ADMIN')),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE jobs (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(255)  NOT NULL,
+    description VARCHAR(1000) NOT NULL,
+    company     VARCHAR(255)  NOT NULL,
+    location    VARCHAR(255)  NOT NULL,
+    salary      FLOAT(53),
+    job_type    VARCHAR(255) CHECK (job_type IN ('FULL_TIME', 'PART_TIME', 'CONTRACT', 'INTERNSHIP', 'REMOTE')),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    created_by  BIGINT,
+    CONSTRAINT fk_jobs_created_by FOREIGN KEY (created_by) REFERENCES users (id)
+);
@@ -0,0 +1,14 @@
+-- Indexes behind the repository queries; names match the @Index declarations.
+-- IF NOT EXISTS because databases that ran with ddl-auto=update may already have them.
+
+CREATE INDEX IF NOT EXISTS idx_users_role ON users (role);
+
+-- Keyset pagination: newest/oldest first, and each equality filter followed by the keyset order
+CREATE INDEX IF NOT EXISTS idx_jobs_created_at_id ON jobs (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_jobs_company_created_at ON jobs (company, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_jobs_job_type_created_at ON jobs (job_type, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_jobs_created_by_created_at ON jobs (created_by, created_at, id);
+-- Salary ordering and range filters
+CREATE INDEX IF NOT EXISTS idx_jobs_salary_id ON jobs (salary, id);
+-- Incremental export (updated since)
+CREATE INDEX IF NOT EXISTS idx_jobs_updated_at ON jobs (updated_at);
@@ -0,0 +1,12 @@
+-- Transactional outbox for job changes, written in the same transaction as the job and drained by
+-- JobOutboxService. Identity values are assigned at insert, not at commit, so ids are not commit order;
+-- changes of one job still get increasing ids only because the job row lock serializes their transactions.
+
+CREATE TABLE job_outbox (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_id     BIGINT      NOT NULL,
+    created_by BIGINT,
+    event_type VARCHAR(20) NOT NULL CHECK (event_type IN ('CREATED', 'UPDATED', 'DELETED')),
+    payload    VARCHAR     NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
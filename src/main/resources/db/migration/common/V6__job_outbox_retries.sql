@@ -0,0 +1,7 @@
+-- Retry state of outbox rows: a failed delivery is retried with backoff and parked after
+-- jobs.outbox.max-attempts failures, so one bad change no longer holds up every other job.
+
+ALTER TABLE job_outbox ADD COLUMN attempts INT DEFAULT 0 NOT NULL;
+ALTER TABLE job_outbox ADD COLUMN next_attempt_at TIMESTAMP(6);
+ALTER TABLE job_outbox ADD COLUMN parked BOOLEAN DEFAULT FALSE NOT NULL;
+ALTER TABLE job_outbox ADD COLUMN last_error VARCHAR(1000);
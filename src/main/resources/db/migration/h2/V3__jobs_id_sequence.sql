@@ -0,0 +1,5 @@
+-- Pooled ids for jobs (Job.id, allocationSize = 50) so inserts can be JDBC batched.
+-- H2 is only used for fresh (test) databases, so the jobs table is empty here.
+CREATE SEQUENCE IF NOT EXISTS jobs_id_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE jobs ALTER COLUMN id DROP IDENTITY;
@@ -0,0 +1,12 @@
+-- Outbox ids move to a pooled sequence (allocationSize = 50) and delivery order to
+-- sequence_number, still assigned at insert; see the PostgreSQL migration of the same version.
+-- H2 is only used for fresh (test) databases, so the outbox is empty here.
+
+ALTER TABLE job_outbox DROP COLUMN id;
+ALTER TABLE job_outbox ADD COLUMN id BIGINT NOT NULL PRIMARY KEY;
+ALTER TABLE job_outbox ADD COLUMN sequence_number BIGINT GENERATED BY DEFAULT AS IDENTITY;
+
+CREATE SEQUENCE IF NOT EXISTS job_outbox_id_seq START WITH 1 INCREMENT BY 50;
+
+CREATE INDEX IF NOT EXISTS idx_job_outbox_parked_sequence ON job_outbox (parked, sequence_number);
+CREATE INDEX IF NOT EXISTS idx_job_outbox_job_sequence ON job_outbox (job_id, sequence_number);
@@ -0,0 +1,9 @@
+-- Pooled ids for jobs (Job.id, allocationSize = 50) so inserts can be JDBC batched.
+-- Hibernate's pooled optimizer hands out (value - 49 .. value) for each nextval, so the
+-- sequence starts one allocation above the current max(id) to stay clear of existing rows.
+CREATE SEQUENCE IF NOT EXISTS jobs_id_seq INCREMENT BY 50;
+SELECT setval('jobs_id_seq', COALESCE((SELECT MAX(id) FROM jobs), 0) + 50, false);
+
+-- Ids now come from the sequence; drop the identity (or serial default) of the original schema
+ALTER TABLE jobs ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE jobs ALTER COLUMN id DROP DEFAULT;
@@ -0,0 +1,7 @@
+-- pg_trgm GIN indexes behind the fuzzy company/location lookups (JobRepository.find*TrigramMatches).
+-- Other databases use the in-memory trigram indexes of JobSearchService instead.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_company_trgm ON jobs USING gin (lower(company) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_jobs_location_trgm ON jobs USING gin (lower(location) gin_trgm_ops);
@@ -0,0 +1,20 @@
+-- Outbox ids move to a pooled sequence (allocationSize = 50) so the outbox INSERTs are JDBC
+-- batched together with the job writes. Ids allocated in blocks do not follow insert order
+-- across instances, so delivery order moves to sequence_number: the old identity column,
+-- still assigned by the database at insert time. Since the job row lock is held until
+-- commit, a later change of the same job is always inserted, and numbered, after an earlier one.
+
+ALTER TABLE job_outbox RENAME COLUMN id TO sequence_number;
+ALTER TABLE job_outbox DROP CONSTRAINT job_outbox_pkey;
+ALTER TABLE job_outbox ADD COLUMN id BIGINT;
+UPDATE job_outbox SET id = sequence_number;
+ALTER TABLE job_outbox ALTER COLUMN id SET NOT NULL;
+ALTER TABLE job_outbox ADD CONSTRAINT job_outbox_pkey PRIMARY KEY (id);
+
+-- One allocation above max(id), as the pooled optimizer hands out the 49 values below each nextval
+CREATE SEQUENCE IF NOT EXISTS job_outbox_id_seq INCREMENT BY 50;
+SELECT setval('job_outbox_id_seq', COALESCE((SELECT MAX(id) FROM job_outbox), 0) + 50, false);
+
+-- Dispatch: pending rows in order, and earlier rows of the same job still waiting on a retry
+CREATE INDEX IF NOT EXISTS idx_job_outbox_parked_sequence ON job_outbox (parked, sequence_number);
+CREATE INDEX IF NOT EXISTS idx_job_outbox_job_sequence ON job_outbox (job_id, sequence_number);
@@ -0,0 +1,75 @@
+package com.ME.job_management_system.config;
+
+import com.ME.job_management_system.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1,
+            Duration.ofSeconds(2), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    void encode_ShouldRunOnHashingThread() {
+        release.countDown();
+
+        assertTrue(encoder.encode("secret").startsWith("password-hashing-1:"));
+        assertTrue(encoder.matches("secret", "password-hashing-1:secret"));
+    }
+
+    @Test
+    void encode_WhenQueueIsFull_ShouldRejectImmediately() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        while (meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value() == 0) {
+            Thread.onSpinWait();
+        }
+
+        ServiceBusyException exception = assertThrows(ServiceBusyException.class, () -> encoder.encode("third"));
+        assertEquals(Duration.ofSeconds(2), exception.getRetryAfter());
+
+        release.countDown();
+        assertEquals("password-hashing-1:first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("password-hashing-1:second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    // Tags values with the hashing thread and holds the first call until released
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Thread.currentThread().getName() + ":" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(Thread.currentThread().getName() + ":" + rawPassword);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ME.job_management_system.config;
+
+import com.ME.job_management_system.util.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    @Test
+    void groupOf_ShouldClassifyTheDecodedPath() {
+        assertEquals(RateLimitFilter.Group.SEARCH, RateLimitFilter.groupOf(request("/api/jobs/%73earch/title")));
+        assertEquals(RateLimitFilter.Group.SEARCH, RateLimitFilter.groupOf(request("/api/jobs/search;x=1/title")));
+        assertEquals(RateLimitFilter.Group.AUTH, RateLimitFilter.groupOf(request("/api/%61uth/login")));
+        assertNull(RateLimitFilter.groupOf(request("/actuator/health")));
+    }
+
+    @Test
+    void groupOf_ShouldIgnoreTheContextPath() {
+        MockHttpServletRequest request = request("/app/api/jobs/filter");
+        request.setContextPath("/app");
+
+        assertEquals(RateLimitFilter.Group.SEARCH, RateLimitFilter.groupOf(request));
+    }
+
+    @Test
+    void doFilter_ShouldShareTheSearchBucketBetweenEncodedAndPlainPaths() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(Map.of(
+                RateLimitFilter.Group.SEARCH, new RateLimiter(1, 0.001, 100),
+                RateLimitFilter.Group.API, new RateLimiter(100, 100, 100)), new SimpleMeterRegistry());
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("/api/jobs/search/title"), first, new MockFilterChain());
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(request("/api/jobs/%73earch/title"), second, new MockFilterChain());
+
+        assertEquals(200, first.getStatus());
+        assertEquals(429, second.getStatus());
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr("203.0.113.7");
+        return request;
+    }
+}
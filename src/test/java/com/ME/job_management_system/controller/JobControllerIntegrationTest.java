@@ -1,7 +1,9 @@
 package com.ME.job_management_system.controller;
 
 import com.ME.job_management_system.dto.JobCreateRequest;
+import com.ME.job_management_system.dto.RegisterRequest;
 import com.ME.job_management_system.entity.JobType;
+import com.ME.job_management_system.entity.UserRole;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +14,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -49,6 +54,154 @@ public class JobControllerIntegrationTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void createAndListJobs_WithValidToken_ShouldSucceed() throws Exception {
+        String token = registerAndGetToken("employer@example.com", UserRole.EMPLOYER);
+
+        JobCreateRequest request = new JobCreateRequest();
+        request.setTitle("Integration Test Job");
+        request.setDescription("This is a test job created during integration testing");
+        request.setCompany("Test Company");
+        request.setLocation("Test Location");
+        request.setSalary(70000.0);
+        request.setJobType(JobType.FULL_TIME);
+
+        mockMvc.perform(post("/api/jobs")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        // Second request reuses the same token, exercising the verified-claims cache
+        mockMvc.perform(get("/api/jobs").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Integration Test Job"))
+                .andExpect(jsonPath("$.items[0].createdBy").value("employer@example.com"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void bulkCreate_WithOneInvalidItem_ShouldCreateTheRestAndReportEachOutcome() throws Exception {
+        String token = registerAndGetToken("bulk@example.com", UserRole.EMPLOYER);
+
+        JobCreateRequest valid = new JobCreateRequest();
+        valid.setTitle("Bulk Job");
+        valid.setDescription("A job created through the bulk endpoint");
+        valid.setCompany("Bulk Company");
+        valid.setLocation("Remote");
+        valid.setJobType(JobType.REMOTE);
+        JobCreateRequest invalid = new JobCreateRequest();
+        invalid.setTitle("No");
+
+        mockMvc.perform(post("/api/jobs/bulk")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(valid, invalid, valid))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.invalid").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].id").isNumber())
+                .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].errors").isNotEmpty())
+                .andExpect(jsonPath("$.results[2].status").value("CREATED"));
+    }
+
+    @Test
+    void conditionalGet_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        String token = registerAndGetToken("etag@example.com", UserRole.EMPLOYER);
+
+        JobCreateRequest request = new JobCreateRequest();
+        request.setTitle("Conditional Job");
+        request.setDescription("A job fetched with If-None-Match");
+        request.setCompany("ETag Company");
+        request.setLocation("Remote");
+        request.setJobType(JobType.REMOTE);
+        String created = mockMvc.perform(post("/api/jobs")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        String jobETag = mockMvc.perform(get("/api/jobs/" + id).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/jobs/" + id)
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-None-Match", jobETag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        // Served from the encoded response cache, same body and version
+        mockMvc.perform(get("/api/jobs/" + id).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", jobETag))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.title").value("Conditional Job"));
+
+        String listETag = mockMvc.perform(get("/api/jobs").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/jobs")
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-None-Match", listETag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/jobs?size=5")
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-None-Match", listETag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getJobById_ShouldHonourAcceptEncodingQValues() throws Exception {
+        String token = registerAndGetToken("gzip@example.com", UserRole.EMPLOYER);
+
+        JobCreateRequest request = new JobCreateRequest();
+        request.setTitle("Compressed Job");
+        request.setDescription("x".repeat(1000)); // large enough to be kept gzipped
+        request.setCompany("Gzip Company");
+        request.setLocation("Remote");
+        request.setJobType(JobType.REMOTE);
+        String created = mockMvc.perform(post("/api/jobs")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        mockMvc.perform(get("/api/jobs/" + id)
+                        .header("Authorization", "Bearer " + token)
+                        .header("Accept-Encoding", "br, gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$.title").value("Compressed Job"));
+        mockMvc.perform(get("/api/jobs/" + id)
+                        .header("Authorization", "Bearer " + token)
+                        .header("Accept-Encoding", "deflate;q=1.0, GZIP;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"));
+        mockMvc.perform(get("/api/jobs/" + id)
+                        .header("Authorization", "Bearer " + token)
+                        .header("Accept-Encoding", "*, gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"));
+    }
+
+    @Test
+    void streamJobs_WithValidToken_ShouldOpenEventStream() throws Exception {
+        String token = registerAndGetToken("stream@example.com", UserRole.USER);
+
+        mockMvc.perform(get("/api/jobs/stream?jobType=REMOTE")
+                        .header("Authorization", "Bearer " + token)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith(MediaType.TEXT_EVENT_STREAM_VALUE)));
+    }
+
     @Test
     void healthCheck_ShouldReturnOk() throws Exception {
         mockMvc.perform(get("/health"))
@@ -61,4 +214,20 @@ public class JobControllerIntegrationTest {
         mockMvc.perform(get("/api/info"))
                 .andExpect(status().isOk());
     }
+
+    private String registerAndGetToken(String email, UserRole role) throws Exception {
+        RegisterRequest register = new RegisterRequest();
+        register.setEmail(email);
+        register.setPassword("password123");
+        register.setFirstName("Test");
+        register.setLastName("User");
+        register.setRole(role);
+
+        String body = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(register)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("token").asText();
+    }
 }
\ No newline at end of file
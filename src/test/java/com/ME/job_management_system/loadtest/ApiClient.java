@@ -0,0 +1,134 @@
+package com.ME.job_management_system.loadtest;
+
+import com.ME.job_management_system.dto.JobCreateRequest;
+import com.ME.job_management_system.dto.LoginRequest;
+import com.ME.job_management_system.dto.RegisterRequest;
+import com.ME.job_management_system.entity.JobType;
+import com.ME.job_management_system.entity.UserRole;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Minimal HTTP client for load runs: seeding through the public API, timed GETs and logins.
+ */
+final class ApiClient {
+
+    static final String PASSWORD = "password123";
+
+    static final String[] COMPANIES = {"Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark Industries",
+            "Wayne Enterprises", "Wonka", "Cyberdyne", "Tyrell", "Soylent", "Vandelay", "Aperture", "Massive Dynamic",
+            "Oscorp", "Pied Piper", "Dunder Mifflin", "Gringotts", "Monsters Inc", "Prestige Worldwide"};
+    static final String[] LOCATIONS = {"Berlin", "Paris", "London", "Tunis", "New York", "San Francisco", "Remote",
+            "Madrid", "Amsterdam", "Toronto", "Lisbon", "Munich"};
+    static final String[] TITLES = {"Backend Developer", "Frontend Developer", "Data Engineer", "DevOps Engineer",
+            "Product Manager", "QA Engineer", "Mobile Developer", "Site Reliability Engineer", "Data Scientist",
+            "Java Developer", "Security Engineer", "Engineering Manager"};
+    static final String[] SKILLS = {"java", "spring", "postgresql", "kubernetes", "react", "python", "kafka",
+            "aws", "docker", "typescript", "terraform", "graphql"};
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    String register(String email, UserRole role) throws IOException, InterruptedException {
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail(email);
+        request.setPassword(PASSWORD);
+        request.setFirstName("Load");
+        request.setLastName("Test");
+        request.setRole(role);
+        return post("/api/auth/register", null, request).get("token").asText();
+    }
+
+    // Returns the status code, 200 when the credentials were accepted
+    int login(String email, String password) throws IOException, InterruptedException {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(email);
+        request.setPassword(password);
+        return postJson("/api/auth/login", null, request);
+    }
+
+    // Creates jobs through the bulk endpoint and returns their ids
+    List<Long> createJobs(String token, int count, Random random) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            List<JobCreateRequest> batch = new ArrayList<>();
+            for (int i = 0; i < Math.min(1000, count - ids.size()); i++) {
+                batch.add(randomJob(random));
+            }
+            for (JsonNode result : post("/api/jobs/bulk", token, batch).get("results")) {
+                ids.add(result.get("id").asLong());
+            }
+        }
+        return ids;
+    }
+
+    // Returns the status code; the body is read fully and discarded
+    int get(String path, String token) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    int postJson(String path, String token, Object body) throws IOException, InterruptedException {
+        return send(path, token, body).statusCode();
+    }
+
+    private JsonNode post(String path, String token, Object body) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(path, token, body);
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(path + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpResponse<String> send(String path, String token, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JobCreateRequest randomJob(Random random) {
+        String title = pick(TITLES, random);
+        JobCreateRequest job = new JobCreateRequest();
+        job.setTitle(title);
+        job.setDescription(title + " working with " + pick(SKILLS, random) + ", " + pick(SKILLS, random)
+                + " and " + pick(SKILLS, random));
+        job.setCompany(pick(COMPANIES, random));
+        job.setLocation(pick(LOCATIONS, random));
+        job.setSalary(30000.0 + random.nextInt(150) * 1000);
+        job.setJobType(JobType.values()[random.nextInt(JobType.values().length)]);
+        return job;
+    }
+
+    static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,71 @@
+package com.ME.job_management_system.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load test of the HTTP API against a seeded, in-process instance (H2 in PostgreSQL mode
+ * by default). Each workload in {@link Workloads} is warmed up and measured in turn, and
+ * throughput plus p50/p95/p99 per endpoint are reported. Not part of the regular build;
+ * run it explicitly:
+ * <pre>
+ * mvn test -Dtest=ApiLoadBenchmark -Dbenchmark.users=200 -Dbenchmark.jobs=50000 -Dbenchmark.rate=300
+ * </pre>
+ * With benchmark.rate (requests/second, per workload, overridable as benchmark.rate.login etc.)
+ * requests are sent open-loop at that rate; without it each of benchmark.concurrency workers
+ * sends requests back to back. Other knobs: benchmark.workloads (comma separated, default all),
+ * benchmark.warmup and benchmark.duration (seconds), benchmark.seed and
+ * benchmark.datasource.url/username/password. Results go to target/benchmarks/api-load.json.
+ */
+class ApiLoadBenchmark {
+
+    @Test
+    void runWorkloads() throws Exception {
+        int jobs = Integer.getInteger("benchmark.jobs", 10_000);
+        int users = Integer.getInteger("benchmark.users", 50);
+        int concurrency = Integer.getInteger("benchmark.concurrency", 50);
+        Duration warmup = Duration.ofSeconds(Long.getLong("benchmark.warmup", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("benchmark.duration", 30));
+        long seed = Long.getLong("benchmark.seed", 42);
+        List<String> workloads = Arrays.stream(System.getProperty("benchmark.workloads",
+                String.join(",", Workloads.NAMES)).split(",")).map(String::trim).toList();
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("jobs", jobs);
+        settings.put("users", users);
+        settings.put("concurrency", concurrency);
+        settings.put("durationSeconds", duration.toSeconds());
+        Map<String, Object> rates = new LinkedHashMap<>();
+        settings.put("rates", rates);
+
+        LoadReport report;
+        try (BenchmarkApp app = BenchmarkApp.start("load_test")) {
+            ApiClient client = new ApiClient(app.baseUrl());
+            long seedingStart = System.nanoTime();
+            SeedData data = SeedData.create(client, users, jobs, seed);
+            settings.put("seedingSeconds", (System.nanoTime() - seedingStart) / 1_000_000_000.0);
+            // Rates are filled in per workload below; the report keeps a reference to the map
+            report = new LoadReport(settings);
+
+            for (String workload : workloads) {
+                LoadDriver driver = new LoadDriver(Workloads.named(workload, client, data));
+                double rate = Double.parseDouble(System.getProperty("benchmark.rate." + workload,
+                        System.getProperty("benchmark.rate", "0")));
+                rates.put(workload, rate > 0 ? rate : "closed-loop");
+                if (rate > 0) {
+                    driver.runAtRate(rate, concurrency, warmup);
+                    report.add(workload, driver.runAtRate(rate, concurrency, duration));
+                } else {
+                    driver.run(concurrency, warmup);
+                    report.add(workload, driver.run(concurrency, duration));
+                }
+            }
+        }
+        report.write("api-load.json");
+    }
+}
@@ -0,0 +1,70 @@
+package com.ME.job_management_system.loadtest;
+
+import com.ME.job_management_system.JobManagementSystemApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The application started in-process on a random port for load runs.
+ * Uses an in-memory H2 database in PostgreSQL mode unless -Dbenchmark.datasource.url
+ * (plus .username/.password) points at a real, empty database, which gives representative
+ * JDBC latencies. The schema comes from the Flyway migrations either way.
+ */
+final class BenchmarkApp implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final String baseUrl;
+
+    private BenchmarkApp(ConfigurableApplicationContext context) {
+        this.context = context;
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    static BenchmarkApp start(String databaseName, String... profiles) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        String url = System.getProperty("benchmark.datasource.url");
+        if (url == null) {
+            properties.put("spring.datasource.url", "jdbc:h2:mem:" + databaseName
+                    + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1");
+            properties.put("spring.datasource.username", "sa");
+            properties.put("spring.datasource.password", "");
+        } else {
+            properties.put("spring.datasource.url", url);
+            properties.put("spring.datasource.username", System.getProperty("benchmark.datasource.username", "postgres"));
+            properties.put("spring.datasource.password", System.getProperty("benchmark.datasource.password", "postgres"));
+        }
+        properties.put("spring.jpa.show-sql", false);
+        // Measure the application itself, not the admission control in front of it
+        properties.put("security.rate-limit.enabled", false);
+        // Keep logging out of the measurement
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.ME.job_management_system", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("logging.file.name", "");
+
+        // Passed as command-line arguments so they win over application.properties
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(JobManagementSystemApplication.class)
+                .profiles(profiles)
+                .run(args);
+        return new BenchmarkApp(context);
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
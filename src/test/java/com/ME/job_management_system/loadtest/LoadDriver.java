@@ -0,0 +1,153 @@
+package com.ME.job_management_system.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a weighted mix of endpoints either closed-loop ({@link #run}: a fixed number of
+ * workers each send the next request as soon as the previous one returns) or open-loop
+ * ({@link #runAtRate}: requests are scheduled at a target rate whether or not earlier ones
+ * have returned, so a slow server builds a backlog instead of slowing the client down).
+ */
+final class LoadDriver {
+
+    // One kind of request in the mix; call returns the HTTP status
+    interface Call {
+        int execute(ThreadLocalRandom random) throws Exception;
+    }
+
+    record Endpoint(String name, int weight, Call call) {
+    }
+
+    record Result(Map<String, LatencyRecorder> byEndpoint, Duration elapsed) {
+
+        long totalRequests() {
+            return byEndpoint.values().stream().mapToLong(LatencyRecorder::count).sum();
+        }
+
+        double throughput() {
+            return totalRequests() / (elapsed.toNanos() / 1_000_000_000.0);
+        }
+
+        LatencyRecorder overall() {
+            LatencyRecorder overall = new LatencyRecorder();
+            byEndpoint.values().forEach(overall::merge);
+            return overall;
+        }
+    }
+
+    private final List<Endpoint> endpoints;
+    private final int totalWeight;
+
+    LoadDriver(List<Endpoint> endpoints) {
+        this.endpoints = List.copyOf(endpoints);
+        this.totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+    }
+
+    Result run(int concurrency, Duration duration) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try {
+            List<Future<Map<String, LatencyRecorder>>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> work(deadline)));
+            }
+            Map<String, LatencyRecorder> merged = new TreeMap<>();
+            for (Future<Map<String, LatencyRecorder>> future : futures) {
+                future.get().forEach((name, recorder) ->
+                        merged.computeIfAbsent(name, key -> new LatencyRecorder()).merge(recorder));
+            }
+            return new Result(merged, Duration.ofNanos(System.nanoTime() - start));
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Sends requestsPerSecond requests, evenly spaced, for the given duration using at most
+     * maxInFlight concurrent connections. Latency is measured from the time a request was
+     * scheduled, not sent, so queueing behind a slow server counts (no coordinated omission).
+     */
+    Result runAtRate(double requestsPerSecond, int maxInFlight, Duration duration) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(maxInFlight);
+        ConcurrentLinkedQueue<Map<String, LatencyRecorder>> allRecorders = new ConcurrentLinkedQueue<>();
+        ThreadLocal<Map<String, LatencyRecorder>> recorders = ThreadLocal.withInitial(() -> {
+            Map<String, LatencyRecorder> own = new TreeMap<>();
+            allRecorders.add(own);
+            return own;
+        });
+        long interval = (long) (1_000_000_000L / requestsPerSecond);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try {
+            for (long scheduled = start; scheduled < deadline; scheduled += interval) {
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long intendedStart = scheduled;
+                workers.execute(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    call(pick(random), random, intendedStart, recorders.get());
+                });
+            }
+            workers.shutdown();
+            workers.awaitTermination(duration.toMillis() + 60_000, TimeUnit.MILLISECONDS);
+            // Workers are done, so their recorders are safe to read
+            Map<String, LatencyRecorder> merged = new TreeMap<>();
+            for (Map<String, LatencyRecorder> own : allRecorders) {
+                own.forEach((name, recorder) ->
+                        merged.computeIfAbsent(name, key -> new LatencyRecorder()).merge(recorder));
+            }
+            return new Result(merged, Duration.ofNanos(System.nanoTime() - start));
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Map<String, LatencyRecorder> work(long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, LatencyRecorder> recorders = new TreeMap<>();
+        while (System.nanoTime() < deadline) {
+            call(pick(random), random, System.nanoTime(), recorders);
+        }
+        return recorders;
+    }
+
+    private static void call(Endpoint endpoint, ThreadLocalRandom random, long begin,
+                             Map<String, LatencyRecorder> recorders) {
+        LatencyRecorder recorder = recorders.computeIfAbsent(endpoint.name(), key -> new LatencyRecorder());
+        try {
+            int status = endpoint.call().execute(random);
+            if (status >= 400) {
+                recorder.recordError();
+            } else {
+                recorder.record(System.nanoTime() - begin);
+            }
+        } catch (Exception e) {
+            recorder.recordError();
+        }
+    }
+
+    private Endpoint pick(ThreadLocalRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            ticket -= endpoint.weight();
+            if (ticket < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+}
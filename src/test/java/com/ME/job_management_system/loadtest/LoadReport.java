@@ -0,0 +1,64 @@
+package com.ME.job_management_system.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Prints load results as a table (throughput, errors and p50/p95/p99 per endpoint) and
+ * writes them as JSON under target/benchmarks so runs can be compared.
+ */
+final class LoadReport {
+
+    private final Map<String, Object> json = new LinkedHashMap<>();
+    private final Map<String, Object> runs = new LinkedHashMap<>();
+
+    LoadReport(Map<String, Object> settings) {
+        json.put("javaVersion", Runtime.version().toString());
+        json.putAll(settings);
+        json.put("runs", runs);
+        System.out.printf("%n%-10s %-44s %10s %8s %9s %9s %9s%n",
+                "run", "endpoint", "req/s", "errors", "p50 ms", "p95 ms", "p99 ms");
+    }
+
+    void add(String run, LoadDriver.Result result) {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        double seconds = result.elapsed().toNanos() / 1_000_000_000.0;
+        result.byEndpoint().forEach((name, recorder) -> {
+            endpoints.put(name, summary(recorder, seconds));
+            printRow(run, name, recorder, seconds);
+        });
+        printRow(run, "ALL", result.overall(), seconds);
+        Map<String, Object> runJson = new LinkedHashMap<>(summary(result.overall(), seconds));
+        runJson.put("endpoints", endpoints);
+        runs.put(run, runJson);
+    }
+
+    void write(String fileName) throws IOException {
+        Path output = Path.of("target", "benchmarks", fileName);
+        Files.createDirectories(output.getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.toFile(), json);
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    private static Map<String, Object> summary(LatencyRecorder recorder, double seconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", recorder.count());
+        summary.put("errors", recorder.errors());
+        summary.put("throughput", recorder.count() / seconds);
+        summary.put("p50Millis", recorder.percentileMillis(50));
+        summary.put("p95Millis", recorder.percentileMillis(95));
+        summary.put("p99Millis", recorder.percentileMillis(99));
+        return summary;
+    }
+
+    private static void printRow(String run, String name, LatencyRecorder recorder, double seconds) {
+        System.out.printf("%-10s %-44s %10.1f %8d %9.2f %9.2f %9.2f%n", run, name, recorder.count() / seconds,
+                recorder.errors(), recorder.percentileMillis(50), recorder.percentileMillis(95),
+                recorder.percentileMillis(99));
+    }
+}
@@ -0,0 +1,31 @@
+package com.ME.job_management_system.loadtest;
+
+import com.ME.job_management_system.entity.UserRole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Users and jobs created through the public API before a load run, plus the tokens the
+ * workloads authenticate with. Users register one by one (each costs a bcrypt hash);
+ * jobs go through the bulk endpoint.
+ */
+record SeedData(String adminToken, List<String> userEmails, List<String> userTokens, List<Long> jobIds) {
+
+    static SeedData create(ApiClient client, int users, int jobs, long seed) throws IOException, InterruptedException {
+        Random random = new Random(seed);
+        String adminToken = client.register("admin@load.test", UserRole.ADMIN);
+        String employerToken = client.register("employer@load.test", UserRole.EMPLOYER);
+        List<Long> jobIds = client.createJobs(employerToken, jobs, random);
+        List<String> emails = new ArrayList<>(users);
+        List<String> tokens = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String email = "user" + i + "@load.test";
+            emails.add(email);
+            tokens.add(client.register(email, UserRole.USER));
+        }
+        return new SeedData(adminToken, List.copyOf(emails), List.copyOf(tokens), List.copyOf(jobIds));
+    }
+}
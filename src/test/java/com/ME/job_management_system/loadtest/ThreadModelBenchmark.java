@@ -0,0 +1,56 @@
+package com.ME.job_management_system.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Throughput and latency of the JobController endpoints with today's platform-thread
+ * Tomcat pool versus the virtual-threads profile, same data, same workload.
+ * Not part of the regular build (the class name does not match the surefire includes);
+ * run it explicitly on Java 21:
+ * <pre>
+ * mvn -Pjava21 test -Dtest=ThreadModelBenchmark -Dbenchmark.concurrency=400 -Dbenchmark.duration=60
+ * </pre>
+ * Other knobs: benchmark.jobs, benchmark.users, benchmark.warmup (seconds), benchmark.seed and
+ * benchmark.datasource.url/username/password for a real PostgreSQL. Results are printed and
+ * written to target/benchmarks/thread-model.json.
+ */
+class ThreadModelBenchmark {
+
+    @Test
+    void compareThreadModels() throws Exception {
+        int jobs = Integer.getInteger("benchmark.jobs", 10_000);
+        int users = Integer.getInteger("benchmark.users", 20);
+        int concurrency = Integer.getInteger("benchmark.concurrency", 400);
+        Duration warmup = Duration.ofSeconds(Long.getLong("benchmark.warmup", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("benchmark.duration", 30));
+        long seed = Long.getLong("benchmark.seed", 42);
+        if (Runtime.version().feature() < 21) {
+            System.out.println("WARNING: running on Java " + Runtime.version().feature()
+                    + ", the virtual-threads profile falls back to platform threads");
+        }
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("concurrency", concurrency);
+        settings.put("jobs", jobs);
+        settings.put("users", users);
+        LoadReport report = new LoadReport(settings);
+        report.add("platform", measure("platform", new String[0], jobs, users, concurrency, warmup, duration, seed));
+        report.add("virtual", measure("virtual", new String[]{"virtual-threads"}, jobs, users, concurrency,
+                warmup, duration, seed));
+        report.write("thread-model.json");
+    }
+
+    private LoadDriver.Result measure(String mode, String[] profiles, int jobs, int users, int concurrency,
+                                      Duration warmup, Duration duration, long seed) throws Exception {
+        try (BenchmarkApp app = BenchmarkApp.start("bench_" + mode, profiles)) {
+            ApiClient client = new ApiClient(app.baseUrl());
+            LoadDriver driver = new LoadDriver(Workloads.browse(client, SeedData.create(client, users, jobs, seed)));
+            driver.run(concurrency, warmup);
+            return driver.run(concurrency, duration);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.ME.job_management_system.loadtest;
+
+import com.ME.job_management_system.entity.JobType;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Named request mixes for the load runs. Weights are relative within a mix.
+ */
+final class Workloads {
+
+    static final List<String> NAMES = List.of("browse", "search", "statistics", "login", "mixed");
+
+    private Workloads() {
+    }
+
+    static List<LoadDriver.Endpoint> named(String name, ApiClient client, SeedData data) {
+        return switch (name) {
+            case "browse" -> browse(client, data);
+            case "search" -> search(client, data);
+            case "statistics" -> statistics(client, data);
+            case "login" -> login(client, data);
+            case "mixed" -> mixed(client, data);
+            default -> throw new IllegalArgumentException("Unknown workload '" + name + "', expected one of " + NAMES);
+        };
+    }
+
+    // Read-heavy mix over the JobController endpoints, roughly what the mobile clients send
+    static List<LoadDriver.Endpoint> browse(ApiClient client, SeedData data) {
+        List<String> tokens = data.userTokens();
+        List<Long> jobIds = data.jobIds();
+        return List.of(
+                new LoadDriver.Endpoint("GET /api/jobs", 25, random ->
+                        client.get("/api/jobs?size=20", pick(tokens, random))),
+                new LoadDriver.Endpoint("GET /api/jobs/{id}", 30, random ->
+                        client.get("/api/jobs/" + jobIds.get(random.nextInt(jobIds.size())), pick(tokens, random))),
+                new LoadDriver.Endpoint("GET /api/jobs/search/company", 10, random ->
+                        client.get("/api/jobs/search/company?company="
+                                + encode(ApiClient.pick(ApiClient.COMPANIES, random)), pick(tokens, random))),
+                new LoadDriver.Endpoint("GET /api/jobs/search", 10, random ->
+                        client.get("/api/jobs/search?q=" + encode(ApiClient.pick(ApiClient.SKILLS, random)),
+                                pick(tokens, random))),
+                new LoadDriver.Endpoint("GET /api/jobs/filter", 15, random ->
+                        client.get("/api/jobs/filter?location=" + encode(ApiClient.pick(ApiClient.LOCATIONS, random))
+                                + "&jobType=" + jobType(random) + "&minSalary=60000", pick(tokens, random))),
+                new LoadDriver.Endpoint("GET /api/jobs/statistics/count", 10, random ->
+                        client.get("/api/jobs/statistics/count", pick(tokens, random))));
+    }
+
+    // Every /search/* endpoint, fuzzy lookups with a typo in about half of the queries
+    static List<LoadDriver.Endpoint> search(ApiClient client, SeedData data) {
+        List<String> tokens = data.userTokens();
+        return List.of(
+                new LoadDriver.Endpoint("GET /api/jobs/search", 25, random ->
+                        client.get("/api/jobs/search?q=" + encode(ApiClient.pick(ApiClient.SKILLS, random) + " "
+                                + ApiClient.pick(ApiClient.SKILLS, random)), pick(tokens, random))),
+                new LoadDriver.Endpoint("GET /api/jobs/search/company/fuzzy", 10, random ->
+                        client.get("/api/jobs/search/company/fuzzy?q="
+                                + encode(typo(ApiClient.pick(ApiClient.COMPANIES, random), random)), pick(tokens, random))),
+                new LoadDriver.Endpoint("GET /api/jobs/search/location/fuzzy", 10, random ->
+                        client.get("/api/jobs/search/location/fuzzy?q="
+                                + encode(typo(ApiClient.pick(ApiClient.LOCATIONS, random), random)), pick(tokens, random))),
+                new LoadDriver.Endpoint("GET /api/jobs/search/company", 15, random ->
+                        client.get("/api/jobs/search/company?company="
+                                + encode(ApiClient.pick(ApiClient.COMPANIES, random)), pick(tokens, random))),
+                new LoadDriver.Endpoint("GET /api/jobs/search/location", 15, random ->
+                        client.get("/api/jobs/search/location?location="
+                                + encode(ApiClient.pick(ApiClient.LOCATIONS, random)), pick(tokens, random))),
+                new LoadDriver.Endpoint("GET /api/jobs/search/title", 15, random ->
+                        client.get("/api/jobs/search/title?title="
+                                + encode(ApiClient.pick(ApiClient.TITLES, random)), pick(tokens, random))),
+                new LoadDriver.Endpoint("GET /api/jobs/search/job-type", 10, random ->
+                        client.get("/api/jobs/search/job-type?jobType=" + jobType(random), pick(tokens, random))));
+    }
+
+    static List<LoadDriver.Endpoint> statistics(ApiClient client, SeedData data) {
+        List<String> tokens = data.userTokens();
+        return List.of(
+                new LoadDriver.Endpoint("GET /api/jobs/statistics/count", 50, random ->
+                        client.get("/api/jobs/statistics/count", pick(tokens, random))),
+                new LoadDriver.Endpoint("GET /api/jobs/statistics/company/{company}", 40, random ->
+                        client.get("/api/jobs/statistics/company/"
+                                + encode(ApiClient.pick(ApiClient.COMPANIES, random)).replace("+", "%20"),
+                                pick(tokens, random))),
+                new LoadDriver.Endpoint("GET /api/admin/statistics/users", 10, random ->
+                        client.get("/api/admin/statistics/users", data.adminToken())));
+    }
+
+    // Logins are bcrypt bound; run this mix at a modest rate or expect 503s once the hashing queue fills
+    static List<LoadDriver.Endpoint> login(ApiClient client, SeedData data) {
+        List<String> emails = data.userEmails();
+        return List.of(
+                new LoadDriver.Endpoint("POST /api/auth/login", 1, random ->
+                        client.login(pick(emails, random), ApiClient.PASSWORD)));
+    }
+
+    // Browse plus a little of everything else, the closest to production traffic
+    static List<LoadDriver.Endpoint> mixed(ApiClient client, SeedData data) {
+        List<LoadDriver.Endpoint> endpoints = new ArrayList<>();
+        endpoints.addAll(scaled(browse(client, data), 6));
+        endpoints.addAll(scaled(search(client, data), 2));
+        endpoints.addAll(scaled(statistics(client, data), 1));
+        endpoints.addAll(scaled(login(client, data), 5));
+        return merged(endpoints);
+    }
+
+    private static List<LoadDriver.Endpoint> scaled(List<LoadDriver.Endpoint> endpoints, int factor) {
+        return endpoints.stream()
+                .map(endpoint -> new LoadDriver.Endpoint(endpoint.name(), endpoint.weight() * factor, endpoint.call()))
+                .toList();
+    }
+
+    // Endpoints listed by several mixes keep one entry with the summed weight
+    private static List<LoadDriver.Endpoint> merged(List<LoadDriver.Endpoint> endpoints) {
+        Map<String, LoadDriver.Endpoint> merged = new LinkedHashMap<>();
+        endpoints.forEach(endpoint -> merged.merge(endpoint.name(), endpoint, (previous, next) ->
+                new LoadDriver.Endpoint(previous.name(), previous.weight() + next.weight(), previous.call())));
+        return List.copyOf(merged.values());
+    }
+
+    private static String typo(String value, Random random) {
+        if (value.length() < 4 || random.nextBoolean()) {
+            return value;
+        }
+        int at = 1 + random.nextInt(value.length() - 2);
+        return value.substring(0, at) + value.substring(at + 1);
+    }
+
+    private static JobType jobType(Random random) {
+        return JobType.values()[random.nextInt(JobType.values().length)];
+    }
+
+    private static String pick(List<String> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
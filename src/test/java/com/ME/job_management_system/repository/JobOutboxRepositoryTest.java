@@ -0,0 +1,67 @@
+package com.ME.job_management_system.repository;
+
+import com.ME.job_management_system.entity.JobOutboxEvent;
+import com.ME.job_management_system.event.JobChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class JobOutboxRepositoryTest {
+
+    @Autowired
+    private JobOutboxRepository outboxRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void findDispatchable_ShouldLockTheOldestBatchInInsertOrder() {
+        Long first = outboxRepository.save(event(30L, JobChangedEvent.Type.CREATED)).getId();
+        Long second = outboxRepository.save(event(10L, JobChangedEvent.Type.UPDATED)).getId();
+        outboxRepository.save(event(20L, JobChangedEvent.Type.DELETED));
+        entityManager.flush();
+
+        List<JobOutboxEvent> batch = outboxRepository.findDispatchable(LocalDateTime.now(), PageRequest.of(0, 2));
+
+        assertEquals(List.of(first, second), batch.stream().map(JobOutboxEvent::getId).toList());
+        assertEquals(List.of(30L, 10L), batch.stream().map(JobOutboxEvent::getJobId).toList());
+    }
+
+    @Test
+    void findDispatchable_ShouldSkipParkedAndBackingOffChangesAndTheLaterChangesOfTheirJob() {
+        JobOutboxEvent backingOff = event(10L, JobChangedEvent.Type.UPDATED);
+        backingOff.setAttempts(1);
+        backingOff.setNextAttemptAt(LocalDateTime.now().plusMinutes(1));
+        outboxRepository.save(backingOff);
+        JobOutboxEvent parked = event(20L, JobChangedEvent.Type.UPDATED);
+        parked.setAttempts(10);
+        parked.setParked(true);
+        outboxRepository.save(parked);
+        outboxRepository.save(event(10L, JobChangedEvent.Type.DELETED));
+        Long deliverable = outboxRepository.save(event(20L, JobChangedEvent.Type.DELETED)).getId();
+        entityManager.flush();
+
+        List<JobOutboxEvent> batch = outboxRepository.findDispatchable(LocalDateTime.now(), PageRequest.of(0, 10));
+
+        assertEquals(List.of(deliverable), batch.stream().map(JobOutboxEvent::getId).toList());
+    }
+
+    private JobOutboxEvent event(Long jobId, JobChangedEvent.Type type) {
+        JobOutboxEvent event = new JobOutboxEvent();
+        event.setJobId(jobId);
+        event.setType(type);
+        event.setPayload("{}");
+        event.setCreatedAt(LocalDateTime.now());
+        return event;
+    }
+}
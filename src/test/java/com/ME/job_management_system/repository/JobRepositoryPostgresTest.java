@@ -0,0 +1,76 @@
+package com.ME.job_management_system.repository;
+
+import com.ME.job_management_system.entity.Job;
+import com.ME.job_management_system.entity.JobType;
+import com.ME.job_management_system.entity.User;
+import com.ME.job_management_system.entity.UserRole;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The pg_trgm queries only run on PostgreSQL; skipped where Docker is not available
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class JobRepositoryPostgresTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long percentJob;
+
+    @BeforeEach
+    void setUp() {
+        User employer = new User("employer@example.com", "password", "Test", "User", UserRole.EMPLOYER);
+        entityManager.persist(employer);
+        entityManager.persist(job("Acme Corp", employer));
+        entityManager.persist(job("Under_Score Ltd", employer));
+        Job percent = job("100% Remote Inc", employer);
+        entityManager.persist(percent);
+        entityManager.flush();
+        percentJob = percent.getId();
+    }
+
+    @Test
+    void findCompanyTrigramMatches_ShouldMatchLikeWildcardsLiterally() {
+        // The service escapes the pattern; % must not match every row
+        List<Long> ids = jobRepository.findCompanyTrigramMatches("%", "\\%", 0.3, 10).stream()
+                .map(ScoredJobId::getId)
+                .toList();
+
+        assertEquals(List.of(percentJob), ids);
+    }
+
+    private Job job(String company, User employer) {
+        return new Job("Developer", "A job description", company, "Berlin", 60000.0, JobType.FULL_TIME, employer);
+    }
+}
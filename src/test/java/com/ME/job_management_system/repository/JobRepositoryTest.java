@@ -0,0 +1,206 @@
+package com.ME.job_management_system.repository;
+
+import com.ME.job_management_system.config.SchemaIndexCheck;
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.entity.Job;
+import com.ME.job_management_system.entity.JobType;
+import com.ME.job_management_system.entity.User;
+import com.ME.job_management_system.entity.UserRole;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class JobRepositoryTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Statistics statistics;
+    private User employer;
+
+    @BeforeEach
+    void setUp() {
+        employer = persistUser("employer@example.com");
+        User otherEmployer = persistUser("other@example.com");
+        for (int i = 0; i < 5; i++) {
+            persistJob("Backend Developer " + i, "Acme", 60000.0 + i * 1000, employer);
+            persistJob("Frontend Developer " + i, "Globex", 60000.0 + i * 1000, otherEmployer);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void migrations_ShouldIndexEveryDeclaredRepositoryQuery() throws Exception {
+        assertEquals(List.of(), new SchemaIndexCheck(dataSource).findMissingIndexes());
+    }
+
+    @Test
+    void findPage_ShouldLoadJobsAndCreatorsInOneStatement() {
+        List<JobResponse> page = jobRepository.findPage(new JobSearchCriteria(), null, 10);
+
+        assertEquals(10, page.size());
+        page.forEach(job -> assertNotNull(job.getCreatedBy()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findPage_WithFilter_ShouldUseOneStatement() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setCompany("Acme");
+
+        List<JobResponse> page = jobRepository.findPage(criteria, null, 10);
+
+        assertEquals(5, page.size());
+        page.forEach(job -> assertEquals("employer@example.com", job.getCreatedBy()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findPage_WithCursor_ShouldContinueAfterLastRow() {
+        List<JobResponse> first = jobRepository.findPage(new JobSearchCriteria(), null, 4);
+        JobResponse last = first.get(first.size() - 1);
+
+        List<JobResponse> second = jobRepository.findPage(
+                new JobSearchCriteria(), new JobCursor(last.getCreatedAt(), last.getId()), 10);
+
+        assertEquals(6, second.size());
+        second.forEach(job -> assertTrue(first.stream().noneMatch(seen -> seen.getId().equals(job.getId()))));
+    }
+
+    @Test
+    void findPage_WithCombinedFilterAndSalarySort_ShouldPageThroughMatches() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setCompany("Acme");
+        criteria.setLocationContains("berl");
+        criteria.setJobType(JobType.FULL_TIME);
+        criteria.setMinSalary(61000.0);
+        criteria.setSort(JobSort.SALARY_HIGH);
+
+        List<JobResponse> first = jobRepository.findPage(criteria, null, 2);
+        JobResponse last = first.get(first.size() - 1);
+        List<JobResponse> second = jobRepository.findPage(criteria, JobCursor.after(last, JobSort.SALARY_HIGH), 10);
+
+        assertEquals(List.of(64000.0, 63000.0), first.stream().map(JobResponse::getSalary).toList());
+        assertEquals(List.of(62000.0, 61000.0), second.stream().map(JobResponse::getSalary).toList());
+    }
+
+    @Test
+    void findById_ShouldServeRepeatedLoadsFromSecondLevelCache() {
+        Long id = jobRepository.findPage(new JobSearchCriteria(), null, 1).get(0).getId();
+        // The cache only takes committed rows, so commit the fixture and clean up afterwards
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            transaction.executeWithoutResult(status ->
+                    jobRepository.findById(id).orElseThrow().getCreatedBy().getEmail());
+            statistics.clear();
+
+            String email = transaction.execute(status ->
+                    jobRepository.findById(id).orElseThrow().getCreatedBy().getEmail());
+
+            assertNotNull(email);
+            assertEquals(0, statistics.getPrepareStatementCount());
+            assertEquals(2, statistics.getSecondLevelCacheHitCount());
+        } finally {
+            transaction.executeWithoutResult(status -> {
+                entityManager.createQuery("delete from Job").executeUpdate();
+                entityManager.createQuery("delete from User").executeUpdate();
+            });
+        }
+    }
+
+    @Test
+    void streamForExport_ShouldProjectRowsAndApplySinceFilter() {
+        try (Stream<JobResponse> all = jobRepository.streamAllForExport()) {
+            List<JobResponse> jobs = all.toList();
+            assertEquals(10, jobs.size());
+            jobs.forEach(job -> assertNotNull(job.getCreatedBy()));
+        }
+        try (Stream<JobResponse> none = jobRepository.streamUpdatedSinceForExport(LocalDateTime.now().plusDays(1))) {
+            assertEquals(0, none.count());
+        }
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void bulkStatements_ShouldUpdateAndDeleteChunkOfIds() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setCompany("Acme");
+        List<Long> ids = jobRepository.findIdsAfter(criteria, null, 3);
+        assertEquals(5, jobRepository.countMatching(criteria));
+
+        List<JobSnapshot> before = jobRepository.findSnapshotsByIds(ids);
+        int updated = jobRepository.updateByIds(ids, null, null, null, "Remote", null, JobType.REMOTE,
+                LocalDateTime.now());
+        int deleted = jobRepository.deleteByIds(jobRepository.findIdsAfter(criteria, ids.get(2), 10));
+
+        assertEquals(3, before.size());
+        before.forEach(snapshot -> assertEquals(employer.getId(), snapshot.createdById()));
+        assertEquals(3, updated);
+        assertEquals(2, deleted);
+        jobRepository.findResponsesByIds(ids).forEach(job -> {
+            assertEquals("Remote", job.getLocation());
+            assertEquals(JobType.REMOTE, job.getJobType());
+            assertEquals("Acme", job.getCompany());
+        });
+        assertEquals(3, jobRepository.countMatching(criteria));
+    }
+
+    @Test
+    void countGroupedBySalary_ShouldReturnOneRowPerCompanyTypeAndSalary() {
+        persistJob("Backend Developer 5", "Acme", 60000.0, employer);
+        persistJob("Unpaid Volunteer", "Acme", null, employer);
+        entityManager.flush();
+
+        List<SalaryCountRow> rows = jobRepository.countGroupedBySalary();
+
+        assertEquals(10, rows.size());
+        assertEquals(11, rows.stream().mapToLong(SalaryCountRow::getTotal).sum());
+        assertEquals(2, rows.stream().filter(row -> row.getCompany().equals("Acme") && row.getSalary() == 60000.0)
+                .findFirst().orElseThrow().getTotal());
+    }
+
+    private User persistUser(String email) {
+        User user = new User(email, "password", "Test", "User", UserRole.EMPLOYER);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private void persistJob(String title, String company, Double salary, User createdBy) {
+        entityManager.persist(new Job(title, "A job description for " + title, company, "Berlin",
+                salary, JobType.FULL_TIME, createdBy));
+    }
+}
@@ -0,0 +1,44 @@
+package com.ME.job_management_system.repository;
+
+import com.ME.job_management_system.entity.User;
+import com.ME.job_management_system.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(new User("admin@example.com", "password", "Ada", "Admin", UserRole.ADMIN));
+        userRepository.save(new User("boss@example.com", "password", "Eve", "Employer", UserRole.EMPLOYER));
+        userRepository.save(new User("jobs@example.com", "password", "Emma", "Employer", UserRole.EMPLOYER));
+    }
+
+    @Test
+    void roleQueries_ShouldFilterAndCountInDatabase() {
+        assertEquals(2, userRepository.findByRole(UserRole.EMPLOYER).size());
+        assertEquals(1, userRepository.countByRole(UserRole.ADMIN));
+        assertEquals(0, userRepository.countByRole(UserRole.USER));
+    }
+
+    @Test
+    void countGroupedByRole_ShouldReturnOneRowPerPresentRole() {
+        Map<UserRole, Long> counts = userRepository.countGroupedByRole().stream()
+                .collect(Collectors.toMap(RoleCount::getRole, RoleCount::getTotal));
+
+        assertEquals(Map.of(UserRole.ADMIN, 1L, UserRole.EMPLOYER, 2L), counts);
+    }
+}
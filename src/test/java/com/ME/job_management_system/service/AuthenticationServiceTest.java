@@ -0,0 +1,82 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.RegisterRequest;
+import com.ME.job_management_system.exception.BadRequestException;
+import com.ME.job_management_system.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticationServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @InjectMocks
+    private AuthenticationService authenticationService;
+
+    private final RegisterRequest request = new RegisterRequest();
+
+    @BeforeEach
+    void setUp() {
+        request.setEmail("jane@example.com");
+        request.setPassword("secret123");
+        request.setFirstName("Jane");
+        request.setLastName("Doe");
+        when(passwordEncoder.encode(any())).thenReturn("hash");
+    }
+
+    @Test
+    void register_WhenEmailConstraintIsViolated_ShouldThrowBadRequest() {
+        when(userRepository.saveAndFlush(any())).thenThrow(violation("PUBLIC.UK_USERS_EMAIL_INDEX_4"));
+
+        assertThrows(BadRequestException.class, () -> authenticationService.register(request));
+        verify(userRepository, never()).existsByEmail(any());
+    }
+
+    @Test
+    void register_WhenOtherConstraintIsViolated_ShouldRethrow() {
+        DataIntegrityViolationException violation = violation("users_role_check");
+        when(userRepository.saveAndFlush(any())).thenThrow(violation);
+        when(userRepository.existsByEmail("jane@example.com")).thenReturn(false);
+
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+                () -> authenticationService.register(request)));
+    }
+
+    @Test
+    void register_WhenGeneratedEmailConstraintIsViolated_ShouldThrowBadRequest() {
+        when(userRepository.saveAndFlush(any())).thenThrow(violation("uk6dotkott2kjsp8vw4d0m25fb7"));
+        when(userRepository.existsByEmail("jane@example.com")).thenReturn(true);
+
+        assertThrows(BadRequestException.class, () -> authenticationService.register(request));
+    }
+
+    private DataIntegrityViolationException violation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("constraint violated", new SQLException(), constraintName));
+    }
+}
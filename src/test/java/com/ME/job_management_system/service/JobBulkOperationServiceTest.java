@@ -0,0 +1,109 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.BulkJobSelection;
+import com.ME.job_management_system.dto.BulkJobUpdateRequest;
+import com.ME.job_management_system.dto.BulkOperationStatus;
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.dto.JobUpdateRequest;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.ME.job_management_system.exception.BadRequestException;
+import com.ME.job_management_system.repository.JobRepository;
+import com.ME.job_management_system.repository.JobSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobBulkOperationServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private JobBulkOperationService bulkOperationService;
+
+    @BeforeEach
+    void setUp() {
+        // Runs operations on the calling thread with a chunk size of 2
+        bulkOperationService = new JobBulkOperationService(jobRepository, transactionManager, Runnable::run,
+                eventPublisher, 2);
+    }
+
+    @Test
+    void startDelete_ByFilter_ShouldWalkChunksByIdAndPublishEvents() {
+        BulkJobSelection selection = new BulkJobSelection();
+        selection.setCreatedById(7L);
+        when(jobRepository.countMatching(any())).thenReturn(3L);
+        when(jobRepository.findIdsAfter(any(), isNull(), eq(2))).thenReturn(List.of(1L, 2L));
+        when(jobRepository.findIdsAfter(any(), eq(2L), eq(2))).thenReturn(List.of(3L));
+        when(jobRepository.findSnapshotsByIds(any())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0)
+                .stream().map(id -> new JobSnapshot(7L, job(id))).toList());
+        when(jobRepository.deleteByIds(any())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        String operationId = bulkOperationService.startDelete(selection).getId();
+        BulkOperationStatus status = bulkOperationService.getStatus(operationId);
+
+        assertEquals(BulkOperationStatus.State.COMPLETED, status.getState());
+        assertEquals(3, status.getTotal());
+        assertEquals(3, status.getProcessed());
+        assertEquals(2, status.getChunksCompleted());
+        verify(transactionManager, times(2)).commit(any());
+        verify(eventPublisher, times(3)).publishEvent(any(JobChangedEvent.class));
+    }
+
+    @Test
+    void startUpdate_WhenJobIsDeletedConcurrently_ShouldSkipItAndCountItAsNotFound() {
+        BulkJobSelection selection = new BulkJobSelection();
+        selection.setIds(List.of(1L, 2L));
+        JobUpdateRequest changes = new JobUpdateRequest();
+        changes.setCompany("Acme");
+        BulkJobUpdateRequest request = new BulkJobUpdateRequest();
+        request.setSelection(selection);
+        request.setChanges(changes);
+        // Job 2 is in the snapshot but deleted before the update statement runs
+        when(jobRepository.findSnapshotsByIds(any()))
+                .thenReturn(List.of(new JobSnapshot(7L, job(1L)), new JobSnapshot(7L, job(2L))));
+        when(jobRepository.updateByIds(any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(1);
+        when(jobRepository.findResponsesByIds(any())).thenReturn(List.of(job(1L)));
+
+        BulkOperationStatus status = bulkOperationService.getStatus(bulkOperationService.startUpdate(request).getId());
+
+        assertEquals(BulkOperationStatus.State.COMPLETED, status.getState());
+        assertEquals(1, status.getProcessed());
+        assertEquals(1, status.getNotFound());
+        verify(eventPublisher, times(1)).publishEvent(any(JobChangedEvent.class));
+    }
+
+    @Test
+    void startDelete_WithIdsAndFilter_ShouldThrowBadRequest() {
+        BulkJobSelection selection = new BulkJobSelection();
+        selection.setIds(List.of(1L));
+        selection.setCompany("Acme");
+
+        assertThrows(BadRequestException.class, () -> bulkOperationService.startDelete(selection));
+        verifyNoInteractions(jobRepository);
+    }
+
+    private JobResponse job(Long id) {
+        JobResponse job = new JobResponse();
+        job.setId(id);
+        return job;
+    }
+}
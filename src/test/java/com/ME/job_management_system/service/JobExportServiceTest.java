@@ -0,0 +1,64 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.repository.JobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobExportServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    private JobExportService jobExportService;
+
+    @BeforeEach
+    void setUp() {
+        jobExportService = new JobExportService(jobRepository, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void exportJobs_Ndjson_ShouldEndEachLineWithNewline() throws Exception {
+        when(jobRepository.streamAllForExport()).thenReturn(Stream.of(job(1L), job(2L)));
+
+        String body = export();
+
+        String[] lines = body.split("\n", -1);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].contains("\"id\":1"));
+        assertTrue(lines[1].contains("\"id\":2"));
+        assertEquals("", lines[2]);
+    }
+
+    @Test
+    void exportJobs_NdjsonWithoutJobs_ShouldWriteAnEmptyBody() throws Exception {
+        when(jobRepository.streamAllForExport()).thenReturn(Stream.empty());
+
+        assertEquals("", export());
+    }
+
+    private String export() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jobExportService.exportJobs(JobExportService.Format.NDJSON, null, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private JobResponse job(Long id) {
+        JobResponse job = new JobResponse();
+        job.setId(id);
+        job.setTitle("Job " + id);
+        return job;
+    }
+}
@@ -0,0 +1,125 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.entity.JobOutboxEvent;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.ME.job_management_system.event.JobEventSink;
+import com.ME.job_management_system.repository.JobOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobOutboxServiceTest {
+
+    @Mock
+    private JobOutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<String> delivered = new ArrayList<>();
+    private JobOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        // Records deliveries and fails on job 13
+        JobEventSink sink = (sequence, event) -> {
+            if (event.getJobId() == 13L) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            delivered.add(sequence + ":" + event.getType() + ":" + event.getJobId());
+        };
+        outboxService = new JobOutboxService(outboxRepository, objectMapper,
+                transactionManager, List.of(sink), new SimpleMeterRegistry(), 10, 3, Duration.ofSeconds(1), Duration.ofSeconds(3));
+    }
+
+    @Test
+    void dispatchBatch_ShouldDeliverWrittenChangesInOrderAndDeleteThem() throws Exception {
+        List<JobOutboxEvent> written = captureWrites(
+                JobChangedEvent.created(7L, job(5L, "Engineer")),
+                JobChangedEvent.updated(7L, job(5L, "Engineer"), job(5L, "Senior Engineer")));
+        when(outboxRepository.findDispatchable(any(), any())).thenReturn(written);
+
+        assertEquals(2, outboxService.dispatchBatch());
+
+        assertEquals(List.of("1:CREATED:5", "2:UPDATED:5"), delivered);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        assertEquals("Senior Engineer", objectMapper.readTree(written.get(1).getPayload()).get("current").get("title").asText());
+    }
+
+    @Test
+    void dispatchBatch_WhenSinkFails_ShouldRetryTheChangeLaterAndHoldBackOnlyThatJob() {
+        List<JobOutboxEvent> written = captureWrites(
+                JobChangedEvent.created(7L, job(5L, "Engineer")),
+                JobChangedEvent.updated(7L, job(13L, "Analyst"), job(13L, "Senior Analyst")),
+                JobChangedEvent.deleted(7L, job(13L, "Senior Analyst")),
+                JobChangedEvent.deleted(7L, job(5L, "Engineer")));
+        when(outboxRepository.findDispatchable(any(), any())).thenReturn(written);
+
+        assertEquals(4, outboxService.dispatchBatch());
+
+        assertEquals(List.of("1:CREATED:5", "4:DELETED:5"), delivered);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 4L));
+        JobOutboxEvent failed = written.get(1);
+        assertEquals(1, failed.getAttempts());
+        assertFalse(failed.isParked());
+        assertTrue(failed.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertTrue(failed.getLastError().contains("sink unavailable"));
+        // The later change of job 13 was neither attempted nor rescheduled
+        assertEquals(0, written.get(2).getAttempts());
+        assertNull(written.get(2).getNextAttemptAt());
+    }
+
+    @Test
+    void dispatchBatch_WhenLastAttemptFails_ShouldParkTheChange() {
+        List<JobOutboxEvent> written = captureWrites(JobChangedEvent.deleted(7L, job(13L, "Analyst")));
+        written.get(0).setAttempts(2);
+        when(outboxRepository.findDispatchable(any(), any())).thenReturn(written);
+
+        outboxService.dispatchBatch();
+
+        assertTrue(written.get(0).isParked());
+        assertEquals(3, written.get(0).getAttempts());
+        assertNull(written.get(0).getNextAttemptAt());
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    // Writes the events through the BEFORE_COMMIT listener and returns the rows with ids assigned in order
+    private List<JobOutboxEvent> captureWrites(JobChangedEvent... events) {
+        for (JobChangedEvent event : events) {
+            outboxService.onJobChanged(event);
+        }
+        ArgumentCaptor<JobOutboxEvent> saved = ArgumentCaptor.forClass(JobOutboxEvent.class);
+        verify(outboxRepository, times(events.length)).save(saved.capture());
+        List<JobOutboxEvent> rows = saved.getAllValues();
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i).setId(i + 1L);
+            rows.get(i).setSequenceNumber(i + 1L);
+        }
+        return rows;
+    }
+
+    private JobResponse job(Long id, String title) {
+        JobResponse job = new JobResponse();
+        job.setId(id);
+        job.setTitle(title);
+        return job;
+    }
+}
@@ -0,0 +1,70 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private JobResponseCache jobResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        jobResponseCache = new JobResponseCache(objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jobResponseCache, "maxSize", DataSize.ofMegabytes(1));
+        ReflectionTestUtils.setField(jobResponseCache, "gzipMinSize", DataSize.ofBytes(512));
+        ReflectionTestUtils.setField(jobResponseCache, "ttl", Duration.ofSeconds(5));
+        jobResponseCache.init();
+    }
+
+    @Test
+    void get_ShouldOnlyReturnTheCachedVersionUntilTheJobChanges() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_789);
+        jobResponseCache.put(job(5L, updatedAt, "Short"));
+
+        assertNotNull(jobResponseCache.get(5L, updatedAt.withNano(123_456_000)));
+        assertNull(jobResponseCache.get(5L, updatedAt.plusSeconds(1)));
+
+        jobResponseCache.onJobChanged(JobChangedEvent.deleted(1L, job(5L, updatedAt, "Short")));
+        assertNull(jobResponseCache.get(5L, updatedAt));
+    }
+
+    @Test
+    void put_ShouldGzipOnlyBodiesAboveTheThreshold() throws IOException {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        JobResponseCache.EncodedJob small = jobResponseCache.put(job(1L, updatedAt, "Short"));
+        JobResponseCache.EncodedJob large = jobResponseCache.put(job(2L, updatedAt, "Long description. ".repeat(100)));
+
+        assertNull(small.gzip());
+        assertNotNull(large.gzip());
+        assertTrue(large.gzip().length < large.json().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(large.gzip()))) {
+            assertArrayEquals(large.json(), in.readAllBytes());
+        }
+        assertEquals("Short", objectMapper.readTree(small.json()).get("description").asText());
+    }
+
+    private JobResponse job(Long id, LocalDateTime updatedAt, String description) {
+        JobResponse job = new JobResponse();
+        job.setId(id);
+        job.setTitle("Engineer");
+        job.setDescription(description);
+        job.setUpdatedAt(updatedAt);
+        return job;
+    }
+}
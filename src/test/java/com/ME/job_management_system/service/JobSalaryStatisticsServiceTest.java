@@ -0,0 +1,112 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.dto.SalaryDistribution;
+import com.ME.job_management_system.entity.JobType;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.ME.job_management_system.exception.BadRequestException;
+import com.ME.job_management_system.repository.JobRepository;
+import com.ME.job_management_system.repository.SalaryCountRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobSalaryStatisticsServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    private JobSalaryStatisticsService salaryStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        when(jobRepository.countGroupedBySalary()).thenReturn(List.of(
+                row("Acme", JobType.FULL_TIME, 60_000.0, 2),
+                row("Acme", JobType.REMOTE, 80_000.0, 1),
+                row("Globex", JobType.FULL_TIME, 120_000.0, 1)
+        ));
+        salaryStatisticsService = new JobSalaryStatisticsService(jobRepository, 10_000);
+        salaryStatisticsService.loadHistograms();
+    }
+
+    @Test
+    void getDistribution_ShouldServeOverallJobTypeAndCompanyHistograms() {
+        SalaryDistribution overall = salaryStatisticsService.getDistribution(null, null);
+        assertEquals(4, overall.getCount());
+        assertEquals(3, overall.getBuckets().size());
+        assertEquals(70_000, overall.getPercentiles().get("p50"), 1e-6);
+
+        assertEquals(3, salaryStatisticsService.getDistribution(JobType.FULL_TIME, null).getCount());
+        assertEquals(3, salaryStatisticsService.getDistribution(null, "Acme").getCount());
+        assertTrue(salaryStatisticsService.getDistribution(null, "Initech").getPercentiles().isEmpty());
+        assertThrows(BadRequestException.class, () -> salaryStatisticsService.getDistribution(JobType.REMOTE, "Acme"));
+    }
+
+    @Test
+    void onJobChanged_ShouldMoveSalariesBetweenBuckets() {
+        salaryStatisticsService.onJobChanged(JobChangedEvent.updated(1L,
+                job(1L, "Globex", JobType.FULL_TIME, 120_000.0), job(1L, "Globex", JobType.CONTRACT, 90_000.0)));
+        salaryStatisticsService.onJobChanged(JobChangedEvent.created(1L, job(2L, "Globex", JobType.CONTRACT, null)));
+        salaryStatisticsService.onJobChanged(JobChangedEvent.deleted(1L, job(3L, "Acme", JobType.REMOTE, 80_000.0)));
+
+        assertEquals(3, salaryStatisticsService.getDistribution(null, null).getCount());
+        assertEquals(2, salaryStatisticsService.getDistribution(JobType.FULL_TIME, null).getCount());
+        assertEquals(90_000, salaryStatisticsService.getDistribution(JobType.CONTRACT, null).getBuckets().get(0).from());
+        assertEquals(0, salaryStatisticsService.getDistribution(JobType.REMOTE, null).getCount());
+    }
+
+    @Test
+    void onJobChanged_ShouldDropCompanyHistogramsOnceEmptyAndMatchCompaniesIgnoringCase() {
+        salaryStatisticsService.onJobChanged(JobChangedEvent.deleted(1L, job(4L, "Globex", JobType.FULL_TIME, 120_000.0)));
+
+        assertFalse(companies().containsKey("globex"));
+        assertEquals(0, salaryStatisticsService.getDistribution(null, "Globex").getCount());
+        assertEquals(3, salaryStatisticsService.getDistribution(null, "ACME").getCount());
+    }
+
+    @Test
+    void reseed_ShouldReplaceHistogramsWithDatabaseCounts() {
+        salaryStatisticsService.onJobChanged(JobChangedEvent.created(1L, job(5L, "Initech", JobType.CONTRACT, 50_000.0)));
+        when(jobRepository.countGroupedBySalary()).thenReturn(List.of(row("Acme", JobType.FULL_TIME, 60_000.0, 5)));
+
+        salaryStatisticsService.reseed();
+
+        assertEquals(5, salaryStatisticsService.getDistribution(null, null).getCount());
+        assertEquals(0, salaryStatisticsService.getDistribution(null, "Initech").getCount());
+        assertEquals(List.of("acme"), List.copyOf(companies().keySet()));
+    }
+
+    // The per-company histograms currently held
+    private Map<?, ?> companies() {
+        Object histograms = ReflectionTestUtils.getField(salaryStatisticsService, "histograms");
+        return (Map<?, ?>) ReflectionTestUtils.invokeGetterMethod(histograms, "byCompany");
+    }
+
+    private SalaryCountRow row(String company, JobType jobType, Double salary, long total) {
+        return new SalaryCountRow() {
+            public String getCompany() { return company; }
+            public JobType getJobType() { return jobType; }
+            public Double getSalary() { return salary; }
+            public long getTotal() { return total; }
+        };
+    }
+
+    private JobResponse job(Long id, String company, JobType jobType, Double salary) {
+        JobResponse job = new JobResponse();
+        job.setId(id);
+        job.setCompany(company);
+        job.setJobType(jobType);
+        job.setSalary(salary);
+        return job;
+    }
+}
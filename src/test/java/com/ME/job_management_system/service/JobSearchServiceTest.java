@@ -0,0 +1,86 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.dto.JobSearchHit;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.ME.job_management_system.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobSearchServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    // Stands in for the jobs table
+    private final List<JobResponse> table = new ArrayList<>();
+    private JobSearchService jobSearchService;
+
+    @BeforeEach
+    void setUp() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+        when(jobRepository.findPage(any(), any(), anyInt())).thenAnswer(invocation -> List.copyOf(table));
+        when(jobRepository.findResponsesByIds(any())).thenAnswer(invocation -> table.stream()
+                .filter(job -> invocation.<Collection<Long>>getArgument(0).contains(job.getId()))
+                .toList());
+        table.add(job(1L, "Java Developer", "Acme"));
+        jobSearchService = new JobSearchService(jobRepository, jdbcTemplate);
+        jobSearchService.init();
+    }
+
+    @Test
+    void rebuildIndex_ShouldPickUpRowsWrittenByAnotherInstance() {
+        table.add(job(2L, "Kotlin Developer", "Globex")); // no event on this instance
+        assertTrue(jobSearchService.search("kotlin", 10).isEmpty());
+
+        jobSearchService.rebuildIndex();
+
+        assertEquals(List.of(2L), ids(jobSearchService.search("kotlin", 10)));
+        assertEquals(List.of(2L), ids(jobSearchService.fuzzySearch(JobSearchService.FuzzyField.COMPANY, "globex", 10)));
+    }
+
+    @Test
+    void onJobChanged_ShouldKeepTheIndexCurrentBetweenRebuilds() {
+        JobResponse updated = job(1L, "Scala Developer", "Acme");
+        table.set(0, updated);
+
+        jobSearchService.onJobChanged(JobChangedEvent.updated(7L, job(1L, "Java Developer", "Acme"), updated));
+
+        assertEquals(List.of(1L), ids(jobSearchService.search("scala", 10)));
+        assertTrue(jobSearchService.search("java", 10).isEmpty());
+    }
+
+    private List<Long> ids(List<JobSearchHit> hits) {
+        return hits.stream().map(hit -> hit.getJob().getId()).toList();
+    }
+
+    private JobResponse job(Long id, String title, String company) {
+        JobResponse job = new JobResponse();
+        job.setId(id);
+        job.setTitle(title);
+        job.setCompany(company);
+        job.setLocation("Berlin");
+        job.setDescription("Backend work");
+        job.setCreatedAt(LocalDateTime.of(2025, 1, 1, 12, 0).plusMinutes(id));
+        return job;
+    }
+}
@@ -1,12 +1,16 @@
 package com.ME.job_management_system.service;
 
+import com.ME.job_management_system.dto.CursorPage;
 import com.ME.job_management_system.dto.JobCreateRequest;
 import com.ME.job_management_system.dto.JobResponse;
 import com.ME.job_management_system.entity.Job;
 import com.ME.job_management_system.entity.JobType;
 import com.ME.job_management_system.entity.User;
 import com.ME.job_management_system.entity.UserRole;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.ME.job_management_system.exception.BadRequestException;
 import com.ME.job_management_system.exception.ResourceNotFoundException;
+import com.ME.job_management_system.repository.JobCursor;
 import com.ME.job_management_system.repository.JobRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,13 +20,20 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +42,12 @@ class JobServiceTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Validator validator;
+
     @InjectMocks
     private JobService jobService;
 
@@ -65,15 +82,44 @@ class JobServiceTest {
     @Test
     void getAllJobs_ShouldReturnListOfJobs() {
         // Arrange
-        when(jobRepository.findAll()).thenReturn(List.of(testJob));
+        when(jobRepository.findPage(any(), isNull(), eq(21))).thenReturn(List.of(toResponse(testJob)));
 
         // Act
-        List<JobResponse> result = jobService.getAllJobs();
+        CursorPage<JobResponse> result = jobService.getAllJobs(null, 20);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("Test Job", result.get(0).getTitle());
+        assertEquals(1, result.getItems().size());
+        assertEquals("Test Job", result.getItems().get(0).getTitle());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getAllJobs_WhenMoreRowsThanPageSize_ShouldReturnCursorToNextPage() {
+        // Arrange
+        Job newer = new Job();
+        newer.setId(2L);
+        newer.setTitle("Newer Job");
+        newer.setCreatedBy(testUser);
+        newer.setCreatedAt(LocalDateTime.of(2024, 1, 2, 10, 0));
+        testJob.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        when(jobRepository.findPage(any(), isNull(), eq(2))).thenReturn(List.of(toResponse(newer), toResponse(testJob)));
+
+        // Act
+        CursorPage<JobResponse> result = jobService.getAllJobs(null, 1);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertTrue(result.isHasNext());
+        JobCursor cursor = JobCursor.decode(result.getNextCursor());
+        assertEquals(2L, cursor.getId());
+        assertEquals(newer.getCreatedAt(), cursor.getCreatedAt());
+    }
+
+    @Test
+    void getAllJobs_WithMalformedCursor_ShouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> jobService.getAllJobs("not-a-cursor", 20));
     }
 
     @Test
@@ -124,6 +170,14 @@ class JobServiceTest {
         }
     }
 
+    @Test
+    void createJobs_WithTooManyItems_ShouldThrowBadRequest() {
+        List<JobCreateRequest> requests = Collections.nCopies(JobService.MAX_BULK_SIZE + 1, new JobCreateRequest());
+
+        assertThrows(BadRequestException.class, () -> jobService.createJobs(requests));
+        verify(jobRepository, never()).persistAll(any(), anyInt());
+    }
+
     @Test
     void deleteJob_WhenUserIsOwner_ShouldDeleteJob() {
         // Arrange
@@ -138,6 +192,7 @@ class JobServiceTest {
 
             // Assert
             verify(jobRepository, times(1)).delete(testJob);
+            verify(eventPublisher).publishEvent(any(JobChangedEvent.class));
         }
     }
 
@@ -153,6 +208,13 @@ class JobServiceTest {
             // Act & Assert
             assertThrows(RuntimeException.class, () -> jobService.deleteJob(1L));
             verify(jobRepository, never()).delete(any());
+            verify(eventPublisher, never()).publishEvent(any());
         }
     }
+
+    private JobResponse toResponse(Job job) {
+        return new JobResponse(job.getId(), job.getTitle(), job.getDescription(), job.getCompany(),
+                job.getLocation(), job.getSalary(), job.getJobType(), job.getCreatedBy().getEmail(),
+                job.getCreatedAt(), job.getUpdatedAt());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.entity.JobType;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.ME.job_management_system.repository.JobCountRow;
+import com.ME.job_management_system.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobStatisticsServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @InjectMocks
+    private JobStatisticsService jobStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        when(jobRepository.countGroupedByJobTypeAndCreator()).thenReturn(List.of(
+                row(JobType.FULL_TIME, 1L, 3),
+                row(JobType.REMOTE, 1L, 2),
+                row(JobType.FULL_TIME, 2L, 4)
+        ));
+        jobStatisticsService.loadCounts();
+    }
+
+    @Test
+    void loadCounts_ShouldSeedCountersFromGroupedQuery() {
+        assertEquals(9, jobStatisticsService.getTotalJobsCount());
+        assertEquals(7, jobStatisticsService.getJobsCountByJobType(JobType.FULL_TIME));
+        assertEquals(5, jobStatisticsService.getJobsCountByCreator(1L));
+        assertEquals(0, jobStatisticsService.getJobsCountByCreator(99L));
+    }
+
+    @Test
+    void onJobChanged_ShouldApplyCreateUpdateAndDelete() {
+        jobStatisticsService.onJobChanged(JobChangedEvent.created(2L, job(10L, JobType.CONTRACT)));
+        jobStatisticsService.onJobChanged(JobChangedEvent.updated(1L,
+                job(11L, JobType.REMOTE), job(11L, JobType.PART_TIME)));
+        jobStatisticsService.onJobChanged(JobChangedEvent.deleted(2L, job(12L, JobType.FULL_TIME)));
+
+        assertEquals(9, jobStatisticsService.getTotalJobsCount());
+        assertEquals(1, jobStatisticsService.getJobsCountByJobType(JobType.CONTRACT));
+        assertEquals(1, jobStatisticsService.getJobsCountByJobType(JobType.REMOTE));
+        assertEquals(1, jobStatisticsService.getJobsCountByJobType(JobType.PART_TIME));
+        assertEquals(6, jobStatisticsService.getJobsCountByJobType(JobType.FULL_TIME));
+        assertEquals(4, jobStatisticsService.getJobsCountByCreator(2L));
+    }
+
+    @Test
+    void onJobChanged_ShouldCountJobsWithoutTypeInTotalAndCreator() {
+        jobStatisticsService.onJobChanged(JobChangedEvent.created(1L, job(10L, null)));
+
+        assertEquals(10, jobStatisticsService.getTotalJobsCount());
+        assertEquals(6, jobStatisticsService.getJobsCountByCreator(1L));
+    }
+
+    @Test
+    void reseed_ShouldReplaceCountersWithDatabaseCounts() {
+        jobStatisticsService.onJobChanged(JobChangedEvent.created(1L, job(10L, JobType.CONTRACT)));
+        when(jobRepository.countGroupedByJobTypeAndCreator()).thenReturn(List.of(
+                row(JobType.FULL_TIME, 1L, 3),
+                row(null, 3L, 2)
+        ));
+
+        jobStatisticsService.reseed();
+
+        assertEquals(5, jobStatisticsService.getTotalJobsCount());
+        assertEquals(0, jobStatisticsService.getJobsCountByJobType(JobType.CONTRACT));
+        assertEquals(2, jobStatisticsService.getJobsCountByCreator(3L));
+    }
+
+    private JobResponse job(Long id, JobType jobType) {
+        JobResponse job = new JobResponse();
+        job.setId(id);
+        job.setJobType(jobType);
+        return job;
+    }
+
+    private JobCountRow row(JobType jobType, Long createdById, long total) {
+        return new JobCountRow() {
+            public JobType getJobType() { return jobType; }
+            public Long getCreatedById() { return createdById; }
+            public long getTotal() { return total; }
+        };
+    }
+}
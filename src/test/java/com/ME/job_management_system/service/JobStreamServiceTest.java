@@ -0,0 +1,103 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.entity.JobType;
+import com.ME.job_management_system.event.JobChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobStreamServiceTest {
+
+    // Holds drain tasks instead of running them, so subscriber buffers fill up like a stalled client's
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JobStreamService jobStreamService;
+
+    @BeforeEach
+    void setUp() {
+        jobStreamService = new JobStreamService(new ObjectMapper().findAndRegisterModules(), pendingDrains::add, meterRegistry);
+        ReflectionTestUtils.setField(jobStreamService, "maxSubscribers", 10);
+        ReflectionTestUtils.setField(jobStreamService, "bufferSize", 2);
+        ReflectionTestUtils.setField(jobStreamService, "timeout", Duration.ofMinutes(1));
+    }
+
+    @Test
+    void onJobChanged_DropOldest_ShouldBoundTheBufferOfMatchingSubscribers() {
+        ReflectionTestUtils.setField(jobStreamService, "overflowPolicy", JobStreamService.OverflowPolicy.DROP_OLDEST);
+        jobStreamService.subscribe("Acme", null); // buffer: initial heartbeat
+
+        for (int i = 0; i < 3; i++) {
+            jobStreamService.onJobChanged(JobChangedEvent.created(1L, job((long) i, "acme", JobType.FULL_TIME)));
+        }
+        jobStreamService.onJobChanged(JobChangedEvent.created(1L, job(9L, "Other", JobType.FULL_TIME)));
+
+        assertEquals(2.0, meterRegistry.get("jobs.stream.events.dropped").counter().count());
+        assertEquals(1, jobStreamService.getSubscriberCount());
+        assertEquals(1, pendingDrains.size()); // one drain per subscriber at a time
+    }
+
+    @Test
+    void onJobChanged_Disconnect_ShouldRemoveSlowSubscriber() {
+        ReflectionTestUtils.setField(jobStreamService, "overflowPolicy", JobStreamService.OverflowPolicy.DISCONNECT);
+        jobStreamService.subscribe(null, JobType.REMOTE);
+        jobStreamService.subscribe(null, JobType.CONTRACT);
+
+        jobStreamService.onJobChanged(JobChangedEvent.created(1L, job(1L, "Acme", JobType.REMOTE)));
+        jobStreamService.onJobChanged(JobChangedEvent.created(1L, job(2L, "Acme", JobType.REMOTE)));
+
+        assertEquals(1, jobStreamService.getSubscriberCount());
+        assertEquals(1.0, meterRegistry.get("jobs.stream.subscribers.disconnected").counter().count());
+    }
+
+    @Test
+    void subscribe_WhenSendPoolIsSaturated_ShouldDisconnectTheSubscriber() {
+        jobStreamService = new JobStreamService(new ObjectMapper().findAndRegisterModules(), task -> {
+            throw new RejectedExecutionException("queue full");
+        }, meterRegistry);
+        ReflectionTestUtils.setField(jobStreamService, "maxSubscribers", 10);
+        ReflectionTestUtils.setField(jobStreamService, "bufferSize", 2);
+        ReflectionTestUtils.setField(jobStreamService, "timeout", Duration.ofMinutes(1));
+
+        jobStreamService.subscribe(null, null);
+
+        assertEquals(0, jobStreamService.getSubscriberCount());
+        assertEquals(1.0, meterRegistry.get("jobs.stream.subscribers.disconnected").counter().count());
+    }
+
+    @Test
+    void sendHeartbeats_ShouldDrainEachIdleSubscriberSeparately() {
+        ReflectionTestUtils.setField(jobStreamService, "overflowPolicy", JobStreamService.OverflowPolicy.DROP_OLDEST);
+        for (int i = 0; i < 5; i++) {
+            jobStreamService.subscribe(null, null);
+        }
+        runPendingDrains(4); // the fifth subscriber is still sending its first heartbeat
+
+        jobStreamService.sendHeartbeats();
+
+        assertEquals(5, pendingDrains.size()); // the busy subscriber's drain plus one per idle subscriber
+    }
+
+    private void runPendingDrains(int count) {
+        List<Runnable> drains = new ArrayList<>(pendingDrains.subList(0, count));
+        pendingDrains.subList(0, count).clear();
+        drains.forEach(Runnable::run);
+    }
+
+    private JobResponse job(Long id, String company, JobType jobType) {
+        JobResponse job = new JobResponse();
+        job.setId(id);
+        job.setCompany(company);
+        job.setJobType(jobType);
+        return job;
+    }
+}
@@ -0,0 +1,72 @@
+package com.ME.job_management_system.service;
+
+import com.ME.job_management_system.dto.JobResponse;
+import com.ME.job_management_system.event.JobChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobVersionServiceTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private JobVersionService jobVersionService;
+
+    @BeforeEach
+    void setUp() {
+        jobVersionService = new JobVersionService();
+        ReflectionTestUtils.setField(jobVersionService, "maxTrackedJobs", 100L);
+        ReflectionTestUtils.setField(jobVersionService, "ttl", Duration.ofSeconds(5));
+        jobVersionService.ticker = nanos::get;
+        jobVersionService.init();
+    }
+
+    @Test
+    void recordRead_ShouldKeepNewestVersionAtMicrosecondPrecision() {
+        LocalDateTime older = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_789);
+        LocalDateTime newer = older.plusSeconds(1);
+
+        jobVersionService.onJobChanged(JobChangedEvent.updated(1L, job(5L, older), job(5L, newer)));
+        jobVersionService.recordRead(job(5L, older));
+
+        assertEquals(newer.withNano(123_456_000), jobVersionService.getKnownUpdatedAt(5L));
+        assertEquals(jobVersionService.jobETag(5L, newer), jobVersionService.jobETag(5L, newer.withNano(123_456_000)));
+    }
+
+    @Test
+    void onJobChanged_Delete_ShouldForgetJobAndChangeCatalogETag() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        jobVersionService.recordRead(job(5L, updatedAt));
+        String before = jobVersionService.catalogETag("/api/jobs");
+
+        jobVersionService.onJobChanged(JobChangedEvent.deleted(1L, job(5L, updatedAt)));
+        jobVersionService.recordRead(job(5L, updatedAt)); // a read that raced the delete
+
+        assertNull(jobVersionService.getKnownUpdatedAt(5L));
+        assertNotEquals(before, jobVersionService.catalogETag("/api/jobs"));
+    }
+
+    @Test
+    void versions_ShouldExpireAfterTtl_SoWritesOnOtherInstancesAreNoticed() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        jobVersionService.recordRead(job(5L, updatedAt));
+        String before = jobVersionService.catalogETag("/api/jobs");
+
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        assertNull(jobVersionService.getKnownUpdatedAt(5L));
+        assertNotEquals(before, jobVersionService.catalogETag("/api/jobs"));
+    }
+
+    private JobResponse job(Long id, LocalDateTime updatedAt) {
+        JobResponse job = new JobResponse();
+        job.setId(id);
+        job.setUpdatedAt(updatedAt);
+        return job;
+    }
+}
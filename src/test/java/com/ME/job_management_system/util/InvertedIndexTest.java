@@ -0,0 +1,77 @@
+package com.ME.job_management_system.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.put(1L, terms("Senior Java Developer", "Spring Boot microservices and Java tooling"));
+        index.put(2L, terms("Frontend Developer", "React and TypeScript, some Java is a plus"));
+        index.put(3L, terms("Data Engineer", "Python pipelines on Spark"));
+    }
+
+    @Test
+    void tokenize_ShouldLowercaseAndSplitOnPunctuation() {
+        assertEquals(List.of("senior", "java", "developer"), InvertedIndex.tokenize("Senior JAVA-Developer!"));
+        assertTrue(InvertedIndex.tokenize("a ,").isEmpty());
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesAndMultiTermMatchesHigher() {
+        List<InvertedIndex.Hit> hits = index.search(List.of("java", "developer"), 10);
+
+        assertEquals(List.of(1L, 2L), hits.stream().map(InvertedIndex.Hit::docId).toList());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    void search_ShouldRespectLimit() {
+        assertEquals(1, index.search(List.of("developer"), 1).size());
+    }
+
+    @Test
+    void put_ShouldReplacePreviousTermsAndRemoveShouldDropDocument() {
+        index.put(3L, terms("Java Data Engineer", "Kafka"));
+        assertTrue(index.search(List.of("python"), 10).isEmpty());
+        assertEquals(3, index.search(List.of("java"), 10).size());
+
+        index.remove(1L);
+        assertEquals(2, index.size());
+        assertTrue(index.search(List.of("spring"), 10).isEmpty());
+    }
+
+    @Test
+    void search_ShouldStayCorrectAsPostingsGrowAndAreCompacted() {
+        for (long id = 10; id < 110; id++) {
+            index.put(id, terms("Developer " + id, "Java"));
+        }
+        for (long id = 10; id < 100; id++) {
+            index.remove(id);
+        }
+        index.put(50L, terms("Developer", "Kotlin"));
+
+        List<InvertedIndex.Hit> hits = index.search(List.of("developer"), 100);
+
+        assertEquals(13, hits.size()); // 1, 2, 50 and 100..109
+        assertEquals(hits.size(), hits.stream().map(InvertedIndex.Hit::docId).distinct().count());
+        assertEquals(12, index.search(List.of("java"), 100).size()); // 1, 2 and 100..109; job 50 no longer mentions java
+    }
+
+    private Map<String, Float> terms(String title, String description) {
+        Map<String, Float> terms = new HashMap<>();
+        InvertedIndex.addTerms(terms, title, 3.0f);
+        InvertedIndex.addTerms(terms, description, 1.0f);
+        return terms;
+    }
+}
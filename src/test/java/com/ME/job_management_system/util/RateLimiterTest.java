@@ -0,0 +1,39 @@
+package com.ME.job_management_system.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void tryAcquire_ShouldAllowBurstThenRejectUntilRefilled() {
+        RateLimiter limiter = new RateLimiter(3, 2.0, 100, clock::get);
+
+        assertEquals(Duration.ZERO, limiter.tryAcquire("user:1"));
+        assertEquals(Duration.ZERO, limiter.tryAcquire("user:1"));
+        assertEquals(Duration.ZERO, limiter.tryAcquire("user:1"));
+        assertEquals(Duration.ofMillis(500), limiter.tryAcquire("user:1"));
+
+        clock.addAndGet(Duration.ofMillis(499).toNanos());
+        assertEquals(Duration.ofMillis(1), limiter.tryAcquire("user:1"));
+
+        clock.addAndGet(Duration.ofMillis(1).toNanos());
+        assertEquals(Duration.ZERO, limiter.tryAcquire("user:1"));
+        assertTrue(limiter.tryAcquire("user:1").compareTo(Duration.ZERO) > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepSeparateBucketsPerKey() {
+        RateLimiter limiter = new RateLimiter(1, 1.0, 100, clock::get);
+
+        assertEquals(Duration.ZERO, limiter.tryAcquire("ip:10.0.0.1"));
+        assertEquals(Duration.ofSeconds(1), limiter.tryAcquire("ip:10.0.0.1"));
+        assertEquals(Duration.ZERO, limiter.tryAcquire("ip:10.0.0.2"));
+    }
+}
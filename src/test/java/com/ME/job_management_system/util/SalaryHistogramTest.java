@@ -0,0 +1,38 @@
+package com.ME.job_management_system.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalaryHistogramTest {
+
+    @Test
+    void percentiles_ShouldInterpolateInsideBuckets() {
+        SalaryHistogram histogram = new SalaryHistogram(10_000, 1_000_000);
+        for (int i = 0; i < 100; i++) {
+            histogram.add(50_000 + i * 1_000, 1); // 50k to 149k, ten jobs per bucket
+        }
+
+        double[] values = histogram.percentiles(0, 50, 100);
+
+        assertEquals(100, histogram.count());
+        assertEquals(50_000, values[0], 1e-6);
+        assertEquals(100_000, values[1], 1e-6);
+        assertEquals(150_000, values[2], 1e-6);
+    }
+
+    @Test
+    void add_ShouldClampOutOfRangeSalariesAndSupportRemoval() {
+        SalaryHistogram histogram = new SalaryHistogram(10_000, 100_000);
+        histogram.add(-5, 1);
+        histogram.add(100_000, 1);
+        histogram.add(2_000_000, 1);
+        histogram.add(100_000, -1);
+
+        assertEquals(List.of(new SalaryHistogram.Bucket(0, 10_000, 1), new SalaryHistogram.Bucket(100_000, 110_000, 1)),
+                histogram.buckets());
+        assertEquals(0, new SalaryHistogram(10_000, 100_000).percentiles(50).length);
+    }
+}
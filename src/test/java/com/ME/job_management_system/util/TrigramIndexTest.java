@@ -0,0 +1,60 @@
+package com.ME.job_management_system.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(1L, "ACME Corp");
+        index.put(2L, "Acme");
+        index.put(3L, "Globex");
+        index.put(4L, "Initech");
+    }
+
+    @Test
+    void trigrams_ShouldPadWordsLikePgTrgm() {
+        assertEquals(Set.of("  c", " ca", "cat", "at "), TrigramIndex.trigrams("Cat"));
+    }
+
+    @Test
+    void search_ShouldMatchSubstringsCaseInsensitively() {
+        List<Long> ids = index.search("acme", 0.3, 10).stream().map(TrigramIndex.Hit::docId).toList();
+
+        assertEquals(List.of(2L, 1L), ids);
+    }
+
+    @Test
+    void search_ShouldFindOneAndTwoCharacterQueriesAnywhereInTheValue() {
+        assertEquals(List.of(2L, 1L), index.search("ME", 0.3, 10).stream().map(TrigramIndex.Hit::docId).toList());
+        assertEquals(List.of(3L), index.search("x", 0.3, 10).stream().map(TrigramIndex.Hit::docId).toList());
+    }
+
+    @Test
+    void search_ShouldTolerateTypos() {
+        List<TrigramIndex.Hit> hits = index.search("Globx", 0.3, 10);
+
+        assertEquals(1, hits.size());
+        assertEquals(3L, hits.get(0).docId());
+        assertTrue(hits.get(0).score() < 1.0);
+    }
+
+    @Test
+    void removeAndLimit_ShouldBeHonoured() {
+        index.put(5L, "Acme");
+        assertEquals(2, index.search("acme", 0.3, 2).size());
+
+        index.remove(2L);
+        index.remove(5L);
+        assertEquals(List.of(1L), index.search("acme", 0.3, 10).stream().map(TrigramIndex.Hit::docId).toList());
+    }
+}